@@ -0,0 +1,129 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeHedgingProperties;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.service.EmployeeDataService;
+import com.reliaquest.api.service.coherence.InMemoryRosterChangeBus;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+
+/**
+ * Cache hit and miss paths of {@link EmployeeDataService}. A miss is measured on a freshly constructed service, so
+ * it includes converting the whole roster returned by the stubbed client and populating the cache. Misses are single
+ * shots, in batches of services built beforehand, rather than throughput with a service built around every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeDataServiceBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    private StubEmployeeClient employeeClient;
+    private EmployeeDataService warmService;
+    private String knownId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<EmployeeDto> roster = RosterFixtures.employees(rosterSize);
+        employeeClient = new StubEmployeeClient(roster);
+        warmService = newService();
+        warmService.getAllEmployees();
+        knownId = roster.get(rosterSize / 2).getId();
+    }
+
+    /**
+     * Services with an empty cache, one per invocation of a batch, built before each iteration so that building them
+     * is not timed. A cold miss can only be measured once per service, so these benchmarks run as single shots.
+     */
+    @State(Scope.Thread)
+    public static class ColdServices {
+
+        // Each miss on the roster leaves its service holding the whole roster, so those are measured one at a time
+        static final int ROSTER_BATCH_SIZE = 1;
+        static final int LOOKUP_BATCH_SIZE = 1000;
+
+        private EmployeeDataService[] services;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(EmployeeDataServiceBenchmark benchmark, IterationParams iteration) {
+            services = new EmployeeDataService[iteration.getBatchSize()];
+            for (int i = 0; i < services.length; i++) {
+                services[i] = benchmark.newService();
+            }
+            next = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            for (EmployeeDataService service : services) {
+                service.shutdown();
+            }
+        }
+
+        EmployeeDataService next() {
+            return services[next++];
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> getAllEmployeesCacheHit() {
+        return warmService.getAllEmployees();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = ColdServices.ROSTER_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = ColdServices.ROSTER_BATCH_SIZE)
+    public List<EmployeeResponseDto> getAllEmployeesCacheMiss(ColdServices cold) {
+        return cold.next().getAllEmployees();
+    }
+
+    @Benchmark
+    public EmployeeResponseDto getEmployeeByIdCacheHit() {
+        return warmService.getEmployeeById(knownId);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = ColdServices.LOOKUP_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = ColdServices.LOOKUP_BATCH_SIZE)
+    public EmployeeResponseDto getEmployeeByIdCacheMiss(ColdServices cold) {
+        return cold.next().getEmployeeById(knownId);
+    }
+
+    private EmployeeDataService newService() {
+        return new EmployeeDataService(
+                employeeClient,
+                new SimpleMeterRegistry(),
+                new EmployeeCacheProperties(),
+                new EmployeeHedgingProperties(),
+                BulkheadRegistry.ofDefaults(),
+                new InMemoryRosterChangeBus());
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeHedgingProperties;
+import com.reliaquest.api.config.IdempotencyProperties;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.service.EmployeeDataService;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.coherence.InMemoryRosterChangeBus;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Business operations of {@link EmployeeService} against a warm roster cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeServiceBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    private List<EmployeeDto> roster;
+    private EmployeeService employeeService;
+    private EmployeeDataService employeeDataService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = RosterFixtures.employees(rosterSize);
+        employeeDataService = new EmployeeDataService(
+                new StubEmployeeClient(roster),
+                new SimpleMeterRegistry(),
+                new EmployeeCacheProperties(),
+                new EmployeeHedgingProperties(),
+                BulkheadRegistry.ofDefaults(),
+                new InMemoryRosterChangeBus());
+        employeeService = new EmployeeService(employeeDataService, new IdempotencyProperties());
+        employeeDataService.getAllEmployees();
+    }
+
+    /**
+     * The employees deleted by {@link #deleteEmployeeById}, one per invocation of a batch. Those deleted in the last
+     * iteration are put back into the cache before the next one, so restoring them is not timed.
+     */
+    @State(Scope.Benchmark)
+    public static class Victims {
+
+        static final int BATCH_SIZE = 50;
+
+        private final List<EmployeeRequest> requests = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private int next;
+
+        // The stub creates an employee again by name, so only the first employee of each name is a victim
+        @Setup(Level.Trial)
+        public void setUp(EmployeeServiceBenchmark benchmark) {
+            Set<String> names = new HashSet<>();
+            for (EmployeeDto employee : benchmark.roster) {
+                if (ids.size() < BATCH_SIZE && names.add(employee.getName())) {
+                    EmployeeRequest request = new EmployeeRequest();
+                    request.setName(employee.getName());
+                    requests.add(request);
+                    ids.add(employee.getId());
+                }
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void restore(EmployeeServiceBenchmark benchmark) {
+            for (int i = 0; i < next; i++) {
+                benchmark.employeeDataService.createEmployee(requests.get(i), UUID.randomUUID().toString());
+            }
+            next = 0;
+        }
+
+        String next() {
+            return ids.get(next++);
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> searchEmployeesByName() {
+        return employeeService.searchEmployeesByName("tara");
+    }
+
+    @Benchmark
+    public OptionalInt getHighestSalary() {
+        return employeeService.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    // A delete can only be measured once per victim, so deletes run as single shots in batches of victims
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = Victims.BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = Victims.BATCH_SIZE)
+    public boolean deleteEmployeeById(Victims victims) {
+        return employeeService.deleteEmployeeById(victims.next());
+    }
+}
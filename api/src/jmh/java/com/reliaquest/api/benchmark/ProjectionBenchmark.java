@@ -0,0 +1,78 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.reliaquest.api.config.EmployeeProjection;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializing the roster with every property and projected to {@code fields=id,name}, with the writers the API keeps
+ * per projection. The sizes of the responses are reported as auxiliary counters next to the serialization times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ProjectionBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    private RosterSnapshot roster;
+    private ObjectWriter fullWriter;
+    private ObjectWriter idAndNameWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = RosterSnapshot.of(RosterFixtures.responses(rosterSize));
+        ObjectMapper objectMapper = new ObjectMapper();
+        fullWriter = objectMapper.writer();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(EmployeeResponseDto.class, EmployeeProjection.parse("id,name").serializer());
+        idAndNameWriter = objectMapper.copy().registerModule(module).writer();
+    }
+
+    /**
+     * Size of the serialized roster, recorded once per invocation so that it shows up next to the serialization times.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+
+    @Benchmark
+    public byte[] allFields(PayloadSize payloadSize) throws JsonProcessingException {
+        byte[] json = fullWriter.writeValueAsBytes(roster);
+        payloadSize.bytes = json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] idAndName(PayloadSize payloadSize) throws JsonProcessingException {
+        byte[] json = idAndNameWriter.writeValueAsBytes(roster);
+        payloadSize.bytes = json.length;
+        return json;
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Turning the roster response of the mock API into the cached {@link RosterSnapshot}: decoded straight into the
+ * snapshot, and the earlier way of decoding a list of {@link EmployeeDto}s and copying each into an
+ * {@link EmployeeResponseDto}. Compare the {@code gc.alloc.rate.norm} of both to see the allocation per roster load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RosterDecodeBenchmark {
+
+    private static final TypeReference<ApiResponse<RosterSnapshot>> SNAPSHOT_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<EmployeeDto>>> DTO_LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ApiResponse<List<EmployeeDto>> roster = new ApiResponse<>();
+        roster.setData(RosterFixtures.employees(rosterSize));
+        roster.setStatus("Successfully processed request.");
+        json = objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public RosterSnapshot decodeIntoSnapshot() throws IOException {
+        return objectMapper.readValue(json, SNAPSHOT_TYPE).getData();
+    }
+
+    @Benchmark
+    public RosterSnapshot decodeViaEmployeeDtos() throws IOException {
+        List<EmployeeDto> employees = objectMapper.readValue(json, DTO_LIST_TYPE).getData();
+        return RosterSnapshot.of(employees.stream()
+                .filter(e -> e.getId() != null)
+                .map(RosterDecodeBenchmark::toResponse)
+                .toList());
+    }
+
+    private static EmployeeResponseDto toResponse(EmployeeDto dto) {
+        EmployeeResponseDto response = new EmployeeResponseDto();
+        response.setId(dto.getId());
+        response.setName(dto.getName());
+        response.setSalary(dto.getSalary());
+        response.setAge(dto.getAge());
+        response.setTitle(dto.getTitle());
+        response.setEmail(dto.getEmail());
+        return response;
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters for the benchmarks. Generating a million employees through Datafaker takes minutes, so names
+ * and titles are drawn from small fixed vocabularies instead, which also mirrors the repetition seen in real rosters.
+ */
+final class RosterFixtures {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Carla", "Dmitri", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jamal", "Kofi", "Lena", "Mateo",
+        "Nora", "Omar", "Priya", "Quinn", "Rosa", "Sven", "Tara"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Anderson",
+        "Baker",
+        "Chen",
+        "Diaz",
+        "Evans",
+        "Fischer",
+        "Garcia",
+        "Hughes",
+        "Ivanova",
+        "Johnson",
+        "Kim",
+        "Lopez",
+        "Meyer",
+        "Nguyen",
+        "Okafor",
+        "Patel",
+        "Quintero",
+        "Rossi",
+        "Singh",
+        "Tanaka"
+    };
+
+    private static final String[] TITLES = {
+        "Accountant",
+        "Designer",
+        "Engineer",
+        "Manager",
+        "Consultant",
+        "Analyst",
+        "Administrator",
+        "Architect",
+        "Coordinator",
+        "Director"
+    };
+
+    private RosterFixtures() {}
+
+    static List<EmployeeDto> employees(int size) {
+        Random random = new Random(size);
+        List<EmployeeDto> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EmployeeDto employee = new EmployeeDto();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employee.setName(firstName + " " + lastName);
+            employee.setSalary(random.nextInt(30000, 500000));
+            employee.setAge(random.nextInt(16, 70));
+            employee.setTitle(TITLES[random.nextInt(TITLES.length)]);
+            employee.setEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    static List<EmployeeResponseDto> responses(int size) {
+        List<EmployeeResponseDto> responses = new ArrayList<>(size);
+        for (EmployeeDto dto : employees(size)) {
+            EmployeeResponseDto response = new EmployeeResponseDto();
+            response.setId(dto.getId());
+            response.setName(dto.getName());
+            response.setSalary(dto.getSalary());
+            response.setAge(dto.getAge());
+            response.setTitle(dto.getTitle());
+            response.setEmail(dto.getEmail());
+            responses.add(response);
+        }
+        return responses;
+    }
+}
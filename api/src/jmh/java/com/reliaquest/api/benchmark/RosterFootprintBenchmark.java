@@ -0,0 +1,102 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap retained by the cached roster held as one object per employee and held in columns
+ * ({@code employee.cache.compact-roster}), and the cost of reading from each. The retained size is the used heap
+ * after a full GC with the roster built less the used heap before, reported as the {@code rosterBytes} counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RosterFootprintBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    @Param({"objects", "compact"})
+    String representation;
+
+    private RosterSnapshot roster;
+    private String knownId;
+    private long retainedBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeapAfterGc();
+        roster = buildRoster();
+        retainedBytes = usedHeapAfterGc() - before;
+        knownId = roster.get(rosterSize / 2).getId();
+    }
+
+    /**
+     * Heap retained by the roster, recorded on every invocation so that it shows up next to the read times.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long rosterBytes;
+    }
+
+    @Benchmark
+    public EmployeeResponseDto findById(Footprint footprint) {
+        footprint.rosterBytes = retainedBytes;
+        return roster.findById(knownId);
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return roster.stream().mapToInt(EmployeeResponseDto::getSalary).max().orElse(0);
+    }
+
+    // The fixtures are created here as well, so the objects form retains them and the compact form does not
+    private RosterSnapshot buildRoster() {
+        List<EmployeeResponseDto> employees = RosterFixtures.employees(rosterSize).stream()
+                .map(RosterFootprintBenchmark::toResponse)
+                .toList();
+        RosterSnapshot snapshot = RosterSnapshot.of(employees);
+        return "compact".equals(representation) ? snapshot.compact() : snapshot;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static EmployeeResponseDto toResponse(EmployeeDto dto) {
+        EmployeeResponseDto response = new EmployeeResponseDto();
+        response.setId(dto.getId());
+        response.setName(dto.getName());
+        response.setSalary(dto.getSalary());
+        response.setAge(dto.getAge());
+        response.setTitle(dto.getTitle());
+        response.setEmail(dto.getEmail());
+        return response;
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link EmployeeClient} answering from a fixed roster, so that benchmarks measure the API's service layer
+ * rather than HTTP and the mock server.
+ */
+class StubEmployeeClient implements EmployeeClient {
+
+    private final List<EmployeeDto> roster;
+    private final Map<String, EmployeeDto> rosterById;
+    private final Map<String, EmployeeDto> rosterByName;
+
+    StubEmployeeClient(List<EmployeeDto> roster) {
+        this.roster = roster;
+        this.rosterById = roster.stream().collect(Collectors.toMap(EmployeeDto::getId, Function.identity()));
+        this.rosterByName =
+                roster.stream().collect(Collectors.toMap(EmployeeDto::getName, Function.identity(), (a, b) -> a));
+    }
+
+    @Override
+    public ApiResponse<RosterSnapshot> getAllEmployees() {
+        // A new snapshot per call, as the client decodes one from every response
+        return response(RosterSnapshot.of(roster.stream().map(StubEmployeeClient::toResponse).toList()));
+    }
+
+    @Override
+    public ApiResponse<List<EmployeeDto>> searchEmployees(EmployeeSearchRequest criteria) {
+        String fragment = criteria.getNameContains().toLowerCase(Locale.ROOT);
+        return response(roster.stream()
+                .filter(e -> e.getName().toLowerCase(Locale.ROOT).contains(fragment))
+                .toList());
+    }
+
+    @Override
+    public ApiResponse<Integer> getMaxSalary() {
+        return response(roster.stream().mapToInt(EmployeeDto::getSalary).max().orElse(0));
+    }
+
+    @Override
+    public ApiResponse<List<EmployeeDto>> getTopEmployees(String by, int k) {
+        return response(roster.stream()
+                .sorted(Comparator.comparingInt(EmployeeDto::getSalary).reversed())
+                .limit(k)
+                .toList());
+    }
+
+    @Override
+    public ApiResponse<EmployeeDto> getEmployeeById(String id) {
+        return response(rosterById.get(id));
+    }
+
+    @Override
+    public ApiResponse<EmployeeDto> createEmployee(EmployeeRequest employee, String idempotencyKey) {
+        // "Creates" the roster entry with the requested name again, which lets benchmarks undo a delete
+        return response(rosterByName.get(employee.getName()));
+    }
+
+    @Override
+    public ApiResponse<Boolean> deleteEmployeeByName(EmployeeRequest employee) {
+        return response(Boolean.TRUE);
+    }
+
+    private static EmployeeResponseDto toResponse(EmployeeDto dto) {
+        EmployeeResponseDto response = new EmployeeResponseDto();
+        response.setId(dto.getId());
+        response.setName(dto.getName());
+        response.setSalary(dto.getSalary());
+        response.setAge(dto.getAge());
+        response.setTitle(dto.getTitle());
+        response.setEmail(dto.getEmail());
+        return response;
+    }
+
+    private static <T> ApiResponse<T> response(T data) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setData(data);
+        response.setStatus("Successfully processed request.");
+        return response;
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding the roster returned by the mock API as JSON and as Smile, into the {@link RosterSnapshot} the client reads
+ * it as, through {@code RosterSnapshotDeserializer}. The Smile mapper is a copy of the JSON one, as in
+ * {@code FeignConfig}. The encoded sizes are reported as auxiliary counters next to the decode times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class WireFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<RosterSnapshot>> ROSTER_TYPE = new TypeReference<>() {};
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = jsonMapper.copyWith(new SmileFactory());
+    private byte[] json;
+    private byte[] smile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ApiResponse<List<EmployeeDto>> roster = new ApiResponse<>();
+        roster.setData(RosterFixtures.employees(rosterSize));
+        roster.setStatus("Successfully processed request.");
+        json = jsonMapper.writeValueAsBytes(roster);
+        smile = smileMapper.writeValueAsBytes(roster);
+    }
+
+    /**
+     * Size of the encoded roster, recorded once per invocation so that it shows up next to the decode times.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+
+    @Benchmark
+    public RosterSnapshot decodeJson(PayloadSize payloadSize) throws IOException {
+        payloadSize.bytes = json.length;
+        return jsonMapper.readValue(json, ROSTER_TYPE).getData();
+    }
+
+    @Benchmark
+    public RosterSnapshot decodeSmile(PayloadSize payloadSize) throws IOException {
+        payloadSize.bytes = smile.length;
+        return smileMapper.readValue(smile, ROSTER_TYPE).getData();
+    }
+}
@@ -2,9 +2,11 @@ package com.reliaquest.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableFeignClients(basePackages = "com.reliaquest.api.client")
 public class ApiApplication {
 
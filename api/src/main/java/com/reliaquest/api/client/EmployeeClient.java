@@ -1,28 +1,50 @@
 package com.reliaquest.api.client;
 
 import com.reliaquest.api.config.FeignConfig;
+import com.reliaquest.api.constants.AppConstants;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.RosterSnapshot;
 import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.SpringQueryMap;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(name = "employeeClient", url = "${employee.service.baseUrl}", configuration = FeignConfig.class)
+// Not primary, so that the sharded client can take its place, see EmployeeShardingConfig. The reads declare no
+// produces: their Accept header is set by FeignConfig, which asks for Smile with JSON as the fallback
+@FeignClient(
+        name = EmployeeClient.NAME,
+        url = "${employee.service.baseUrl}",
+        configuration = FeignConfig.class,
+        primary = false)
 public interface EmployeeClient {
 
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
-    ApiResponse<List<EmployeeDto>> getAllEmployees();
+    String NAME = "employeeClient";
 
-    @GetMapping(
-            path = "/{id}",
-            produces = MediaType.APPLICATION_JSON_VALUE,
-            consumes = MediaType.APPLICATION_JSON_VALUE)
+    // Decoded straight into the snapshot that is cached, without an intermediate list of EmployeeDto
+    @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    ApiResponse<RosterSnapshot> getAllEmployees();
+
+    @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    ApiResponse<List<EmployeeDto>> searchEmployees(@SpringQueryMap EmployeeSearchRequest criteria);
+
+    @GetMapping(path = "/stats/max-salary", consumes = MediaType.APPLICATION_JSON_VALUE)
+    ApiResponse<Integer> getMaxSalary();
+
+    @GetMapping(path = "/top", consumes = MediaType.APPLICATION_JSON_VALUE)
+    ApiResponse<List<EmployeeDto>> getTopEmployees(@RequestParam("by") String by, @RequestParam("k") int k);
+
+    @GetMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     ApiResponse<EmployeeDto> getEmployeeById(@PathVariable String id);
 
+    // The key is sent with every attempt of a create, so the Employee Service applies a retried create only once
     @PostMapping
-    ApiResponse<EmployeeDto> createEmployee(@RequestBody EmployeeRequest employee);
+    ApiResponse<EmployeeDto> createEmployee(
+            @RequestBody EmployeeRequest employee,
+            @RequestHeader(AppConstants.IDEMPOTENCY_KEY_HEADER) String idempotencyKey);
 
     @DeleteMapping()
     ApiResponse<Boolean> deleteEmployeeByName(@RequestBody EmployeeRequest employee);
@@ -0,0 +1,213 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.helper.RequestDeadline;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Client of an Employee Service that runs as several shards, each owning a range of the employee ids: the high 32 bits
+ * of the UUID, read as an unsigned number, split into as many equal ranges as there are shards. The mock API splits
+ * the ids the same way, see its {@code ShardRange}.
+ *
+ * <p>A lookup by id goes to the shard that owns the id. A create goes to a shard chosen by its idempotency key, so that
+ * a retried create reaches the shard that may have applied it already, or to the shards in turn when it has none, and
+ * the shard gives it an id of its own range.
+ * The roster, searches and rankings are asked of all shards at once and their answers merged. A failing shard fails
+ * the whole call: a partial roster would be cached as the whole one.
+ */
+public class ShardedEmployeeClient implements EmployeeClient {
+
+    private final List<EmployeeClient> shards;
+    private final ExecutorService executor;
+    // Spreads the creates without an idempotency key over the shards
+    private final AtomicInteger nextCreateShard = new AtomicInteger();
+
+    public ShardedEmployeeClient(List<EmployeeClient> shards, int scatterThreads) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("A sharded Employee Service needs at least one shard");
+        }
+        this.shards = List.copyOf(shards);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(scatterThreads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-shard-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The shard owning the id. An id that is no UUID belongs to no shard, it is sent to the first one to be answered
+     * like by an unsharded Employee Service.
+     */
+    static int shardOf(String id, int shardCount) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+        return (int) (((uuid.getMostSignificantBits() >>> 32) * shardCount) >>> 32);
+    }
+
+    @Override
+    public ApiResponse<RosterSnapshot> getAllEmployees() {
+        List<ApiResponse<RosterSnapshot>> responses = scatter(EmployeeClient::getAllEmployees);
+        List<RosterSnapshot> rosters = responses.stream()
+                .map(ApiResponse::getData)
+                .filter(Objects::nonNull)
+                .toList();
+        return merged(responses, RosterSnapshot.merge(rosters));
+    }
+
+    @Override
+    public ApiResponse<List<EmployeeDto>> searchEmployees(EmployeeSearchRequest criteria) {
+        List<ApiResponse<List<EmployeeDto>>> responses = scatter(shard -> shard.searchEmployees(criteria));
+        List<EmployeeDto> matches = new ArrayList<>();
+        responses.stream().map(ApiResponse::getData).filter(Objects::nonNull).forEach(matches::addAll);
+        return merged(responses, matches);
+    }
+
+    @Override
+    public ApiResponse<Integer> getMaxSalary() {
+        List<ApiResponse<Integer>> responses = scatter(EmployeeClient::getMaxSalary);
+        Integer maxSalary = responses.stream()
+                .map(ApiResponse::getData)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return merged(responses, maxSalary);
+    }
+
+    @Override
+    public ApiResponse<List<EmployeeDto>> getTopEmployees(String by, int k) {
+        List<ApiResponse<List<EmployeeDto>>> responses = scatter(shard -> shard.getTopEmployees(by, k));
+        List<List<EmployeeDto>> rankings = responses.stream()
+                .map(ApiResponse::getData)
+                .filter(Objects::nonNull)
+                .toList();
+        return merged(responses, mergeTopBySalary(rankings, k));
+    }
+
+    @Override
+    public ApiResponse<EmployeeDto> getEmployeeById(String id) {
+        return shards.get(shardOf(id, shards.size())).getEmployeeById(id);
+    }
+
+    /**
+     * A create with an idempotency key goes to the shard chosen by the key, one without a key to the shards in turn:
+     * hashing a missing key would send all of them to the same shard.
+     */
+    @Override
+    public ApiResponse<EmployeeDto> createEmployee(EmployeeRequest employee, String idempotencyKey) {
+        int shard = idempotencyKey == null || idempotencyKey.isBlank()
+                ? Math.floorMod(nextCreateShard.getAndIncrement(), shards.size())
+                : Math.floorMod(idempotencyKey.hashCode(), shards.size());
+        return shards.get(shard).createEmployee(employee, idempotencyKey);
+    }
+
+    /**
+     * Deletes the first employee with the name, like an unsharded Employee Service, so the shards are asked one after
+     * the other until one of them deleted it.
+     */
+    @Override
+    public ApiResponse<Boolean> deleteEmployeeByName(EmployeeRequest employee) {
+        ApiResponse<Boolean> response = null;
+        for (EmployeeClient shard : shards) {
+            response = shard.deleteEmployeeByName(employee);
+            if (Boolean.TRUE.equals(response.getData())) {
+                break;
+            }
+        }
+        return response;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * K-way merge of the rankings of the shards, each ordered by salary from the top, that stops after {@code k}
+     * employees. Employees sharing a salary keep the order of their shards.
+     */
+    static List<EmployeeDto> mergeTopBySalary(List<List<EmployeeDto>> rankings, int k) {
+        PriorityQueue<RankingCursor> heads = new PriorityQueue<>(Comparator.comparingInt(
+                        (RankingCursor cursor) -> cursor.head().getSalary())
+                .reversed()
+                .thenComparingInt(RankingCursor::shard));
+        for (int shard = 0; shard < rankings.size(); shard++) {
+            if (!rankings.get(shard).isEmpty()) {
+                heads.add(new RankingCursor(shard, rankings.get(shard), 0));
+            }
+        }
+        List<EmployeeDto> top = new ArrayList<>(k);
+        while (top.size() < k && !heads.isEmpty()) {
+            RankingCursor cursor = heads.poll();
+            top.add(cursor.head());
+            if (cursor.position() + 1 < cursor.ranking().size()) {
+                heads.add(new RankingCursor(cursor.shard(), cursor.ranking(), cursor.position() + 1));
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Sends the call to every shard at once and returns their answers in shard order, or throws the first failure.
+     */
+    private <T> List<T> scatter(Function<EmployeeClient, T> call) {
+        List<CompletableFuture<T>> others = new ArrayList<>(shards.size() - 1);
+        for (EmployeeClient shard : shards.subList(1, shards.size())) {
+            others.add(CompletableFuture.supplyAsync(RequestDeadline.propagate(() -> call.apply(shard)), executor));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            // The calling thread asks the first shard rather than only waiting for the others
+            results.add(call.apply(shards.get(0)));
+            for (CompletableFuture<T> other : others) {
+                results.add(other.join());
+            }
+        } catch (RuntimeException e) {
+            others.forEach(other -> other.cancel(true));
+            throw unwrap(e);
+        }
+        return results;
+    }
+
+    private static <T> ApiResponse<T> merged(List<? extends ApiResponse<?>> responses, T data) {
+        ApiResponse<T> merged = new ApiResponse<>();
+        merged.setData(data);
+        merged.setStatus(responses.get(0).getStatus());
+        return merged;
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) {
+        if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        if (e instanceof CompletionException && e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    private record RankingCursor(int shard, List<EmployeeDto> ranking, int position) {
+
+        EmployeeDto head() {
+            return ranking.get(position);
+        }
+    }
+}
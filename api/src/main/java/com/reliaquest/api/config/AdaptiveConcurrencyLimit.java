@@ -0,0 +1,75 @@
+package com.reliaquest.api.config;
+
+/**
+ * Concurrency limit that follows the latency of the requests it admits, additive increase, multiplicative decrease:
+ * every request that completes within the target latency while the limit is at least half used raises the limit by
+ * one over the limit, so by about one per limit's worth of requests; a slower request lowers it by the backoff ratio,
+ * at most once per target latency so that one slow burst does not collapse it to the minimum.
+ *
+ * <p>Requests have a priority, and each priority may only fill its share of the limit. As the limit shrinks, the
+ * lowest priority is refused first.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    public enum Priority {
+        WRITE,
+        READ,
+        CACHED_READ
+    }
+
+    private final LoadSheddingProperties properties;
+    private final long targetLatencyNanos;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimit(LoadSheddingProperties properties) {
+        this.properties = properties;
+        this.targetLatencyNanos = properties.getTargetLatency().toNanos();
+        this.limit = properties.getInitialLimit();
+        this.lastDecreaseNanos = System.nanoTime() - targetLatencyNanos;
+    }
+
+    /**
+     * Admits a request of the given priority if its share of the limit is not used up yet. An admitted request must
+     * be completed with {@link #release(long)}.
+     */
+    public synchronized boolean tryAcquire(Priority priority) {
+        if (inFlight >= Math.max(1, (int) (limit * share(priority)))) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos) {
+        if (latencyNanos > targetLatencyNanos) {
+            long now = System.nanoTime();
+            if (now - lastDecreaseNanos >= targetLatencyNanos) {
+                limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(properties.getMaxLimit(), limit + 1 / limit);
+        }
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private double share(Priority priority) {
+        return switch (priority) {
+            case WRITE -> properties.getWriteShare();
+            case READ -> properties.getReadShare();
+            case CACHED_READ -> 1;
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.helper.RequestDeadline;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fits every call of the Employee Service into the deadline of the request it is made for. A call is not made once the
+ * deadline has passed, and otherwise its connect and read timeouts are shortened to the time left, so that neither a
+ * slow attempt nor the attempts the retry adds outlast the deadline.
+ */
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Optional<Duration> remaining = RequestDeadline.remaining();
+            if (remaining.isEmpty()) {
+                return client.execute(request, options);
+            }
+            RequestDeadline.check(request.httpMethod() + " " + request.url());
+            long remainingMillis = Math.max(1, remaining.get().toMillis());
+            Request.Options shortened = new Request.Options(
+                    Math.min(options.connectTimeoutMillis(), remainingMillis),
+                    TimeUnit.MILLISECONDS,
+                    Math.min(options.readTimeoutMillis(), remainingMillis),
+                    TimeUnit.MILLISECONDS,
+                    options.isFollowRedirects());
+            return client.execute(request, shortened);
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.constants.AppConstants;
+import com.reliaquest.api.service.helper.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Starts the deadline of every request to the API: the timeout in milliseconds the client sent in
+ * {@code X-Request-Timeout}, capped at the configured maximum, or else the default of the route. A timeout that is not
+ * a positive number is ignored.
+ */
+@Slf4j
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private final DeadlineProperties properties;
+
+    public DeadlineInterceptor(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.start(timeout(request, handler));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        RequestDeadline.clear();
+    }
+
+    private Duration timeout(HttpServletRequest request, Object handler) {
+        String requestTimeout = request.getHeader(AppConstants.REQUEST_TIMEOUT_HEADER);
+        if (requestTimeout != null) {
+            try {
+                Duration timeout = Duration.ofMillis(Long.parseLong(requestTimeout.trim()));
+                if (timeout.isPositive()) {
+                    return timeout.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : timeout;
+                }
+                log.debug("Ignoring non-positive {} header: {}", AppConstants.REQUEST_TIMEOUT_HEADER, requestTimeout);
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", AppConstants.REQUEST_TIMEOUT_HEADER, requestTimeout);
+            }
+        }
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return properties
+                    .getRoutes()
+                    .getOrDefault(handlerMethod.getMethod().getName(), properties.getDefaultTimeout());
+        }
+        return properties.getDefaultTimeout();
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Deadlines of the requests to the API, bound from {@code employee.deadline.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.deadline")
+public class DeadlineProperties {
+
+    /**
+     * Deadline of a request that did not send a timeout and whose route has none configured.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Upper bound for the timeout a client sends.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Default deadlines by the name of the controller method that handles the route, e.g. {@code getEmployeeById}.
+     */
+    private Map<String, Duration> routes = new HashMap<>();
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the employee roster cache, bound from {@code employee.cache.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.cache")
+public class EmployeeCacheProperties {
+
+    /**
+     * How long the roster is served from the cache before it is fetched again.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * How old the last good roster may be and still be served while the Employee Service is unavailable.
+     */
+    private Duration maxStaleness = Duration.ofHours(1);
+
+    /**
+     * How long an id the Employee Service reported as unknown is answered with 404 without asking it again.
+     */
+    private Duration missingIdTtl = Duration.ofSeconds(30);
+
+    /**
+     * How many unknown ids are remembered at most.
+     */
+    private long missingIdMaximumSize = 10_000;
+
+    /**
+     * Whether a fetched roster is cached in columns instead of as one object per employee, which takes a fraction of
+     * the heap for large rosters at the cost of building the employees on every read.
+     */
+    private boolean compactRoster = false;
+}
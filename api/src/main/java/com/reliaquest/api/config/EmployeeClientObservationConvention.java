@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import feign.MethodMetadata;
+import feign.micrometer.DefaultFeignObservationConvention;
+import feign.micrometer.FeignContext;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Tags the Feign client observations with the {@code EmployeeClient} method that issued the request. The URL template
+ * alone cannot tell the roster fetch from a search, which share {@code GET /}.
+ */
+public class EmployeeClientObservationConvention extends DefaultFeignObservationConvention {
+
+    static final String CLIENT_METHOD_KEY = "client.method";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(FeignContext context) {
+        MethodMetadata methodMetadata = context.getCarrier().requestTemplate().methodMetadata();
+        String clientMethod = methodMetadata != null ? methodMetadata.method().getName() : KeyValue.NONE_VALUE;
+        return super.getLowCardinalityKeyValues(context).and(CLIENT_METHOD_KEY, clientMethod);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the queue behind asynchronous employee creation, bound from {@code employee.create-queue.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.create-queue")
+public class EmployeeCreateQueueProperties {
+
+    /**
+     * How many creates may wait for the Employee Service before new ones are rejected.
+     */
+    private int capacity = 1000;
+
+    /**
+     * How many creates are sent to the Employee Service in one burst.
+     */
+    private int burstSize = 5;
+
+    /**
+     * Pause between the end of one burst and the start of the next.
+     */
+    private Duration burstInterval = Duration.ofSeconds(1);
+
+    /**
+     * How often a create is sent again while the Employee Service is unavailable before it is reported as failed.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * How long the outcome of a create can be polled for after it was submitted.
+     */
+    private Duration operationRetention = Duration.ofHours(1);
+}
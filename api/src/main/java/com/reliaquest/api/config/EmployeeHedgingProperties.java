@@ -0,0 +1,39 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the hedged single-employee lookups, bound from {@code employee.hedging.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.hedging")
+public class EmployeeHedgingProperties {
+
+    /**
+     * Whether a slow lookup is hedged with a second, identical request at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the first request may take before the hedge is sent, until enough latencies are tracked for the
+     * percentile.
+     */
+    private Duration delay = Duration.ofMillis(50);
+
+    /**
+     * Latency percentile of recent lookups used as the hedge delay, e.g. 0.95. 0 always uses the fixed delay.
+     */
+    private double percentile = 0.95;
+
+    /**
+     * Hedges allowed as a percentage of lookups.
+     */
+    private double budgetPercent = 5;
+
+    /**
+     * Threads available to run lookups and their hedges. A lookup that finds them all busy runs unhedged.
+     */
+    private int maxThreads = 16;
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.InvalidQueryException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The properties of {@link EmployeeResponseDto} a client asked for with {@code fields=id,name}. Employees are written
+ * with their properties in the usual order, whichever order they were asked for in.
+ */
+public record EmployeeProjection(Set<Field> fields) {
+
+    public enum Field {
+        ID {
+            @Override
+            void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException {
+                generator.writeStringField("id", employee.getId());
+            }
+        },
+        NAME {
+            @Override
+            void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException {
+                generator.writeStringField("name", employee.getName());
+            }
+        },
+        SALARY {
+            @Override
+            void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException {
+                generator.writeNumberField("salary", employee.getSalary());
+            }
+        },
+        AGE {
+            @Override
+            void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException {
+                generator.writeNumberField("age", employee.getAge());
+            }
+        },
+        TITLE {
+            @Override
+            void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException {
+                generator.writeStringField("title", employee.getTitle());
+            }
+        },
+        EMAIL {
+            @Override
+            void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException {
+                generator.writeStringField("email", employee.getEmail());
+            }
+        };
+
+        abstract void write(EmployeeResponseDto employee, JsonGenerator generator) throws IOException;
+    }
+
+    public EmployeeProjection {
+        fields = Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Parses the comma separated property names of a {@code fields} parameter.
+     *
+     * @throws InvalidQueryException if no property or an unknown one is named
+     */
+    public static EmployeeProjection parse(String fields) {
+        Set<Field> parsed = EnumSet.noneOf(Field.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                parsed.add(Field.valueOf(trimmed.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidQueryException("Unknown field " + trimmed + ", expected any of " + fieldNames());
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new InvalidQueryException("fields must name at least one of " + fieldNames());
+        }
+        return new EmployeeProjection(parsed);
+    }
+
+    /**
+     * Writes an employee with only the properties of this projection. Registered for {@link EmployeeResponseDto} in
+     * the writer of the projection, so lists and pages of employees are projected too.
+     */
+    public StdSerializer<EmployeeResponseDto> serializer() {
+        Field[] projected = fields.toArray(Field[]::new);
+        return new StdSerializer<>(EmployeeResponseDto.class) {
+            @Override
+            public void serialize(EmployeeResponseDto employee, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeStartObject(employee);
+                for (Field field : projected) {
+                    field.write(employee, generator);
+                }
+                generator.writeEndObject();
+            }
+        };
+    }
+
+    private static String fieldNames() {
+        return Arrays.stream(Field.values())
+                .map(field -> field.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.ShardedEmployeeClient;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.FeignClientBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "employee.sharding.enabled")
+public class EmployeeShardingConfig {
+
+    /**
+     * Replaces the client of the single Employee Service. The client of every shard is built under the name of
+     * {@link EmployeeClient}, so it shares its {@link FeignConfig} and only differs in the URL.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public ShardedEmployeeClient shardedEmployeeClient(
+            ApplicationContext applicationContext, EmployeeShardingProperties properties) {
+        FeignClientBuilder builder = new FeignClientBuilder(applicationContext);
+        List<EmployeeClient> shards = properties.getShards().stream()
+                .map(url -> builder.forType(EmployeeClient.class, EmployeeClient.NAME)
+                        .url(url)
+                        .build())
+                .toList();
+        log.info("Employee Service sharded across {}", properties.getShards());
+        return new ShardedEmployeeClient(shards, properties.getScatterThreads());
+    }
+}
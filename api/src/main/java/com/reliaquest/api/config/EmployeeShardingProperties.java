@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of an Employee Service that runs as several shards, bound from {@code employee.sharding.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.sharding")
+public class EmployeeShardingProperties {
+
+    /**
+     * Whether the Employee Service is sharded, in which case the shards are used instead of
+     * {@code employee.service.baseUrl}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Base URL of every shard, in the order of their shard index.
+     */
+    private List<String> shards = new ArrayList<>();
+
+    /**
+     * Threads that send the requests of a scatter-gather to the shards. The first shard is asked on the calling thread.
+     */
+    private int scatterThreads = 16;
+}
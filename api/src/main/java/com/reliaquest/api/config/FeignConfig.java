@@ -1,15 +1,87 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.RosterSnapshotDeserializer;
 import com.reliaquest.api.service.helper.CustomFeignErrorDecoder;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
+import feign.micrometer.MicrometerObservationCapability;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 @Configuration
 public class FeignConfig {
 
+    private static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
     @Bean
     public ErrorDecoder errorDecoder() {
         return new CustomFeignErrorDecoder();
     }
+
+    @Bean
+    public DeadlineCapability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+
+    @Bean
+    public MicrometerObservationCapability micrometerObservationCapability(ObservationRegistry observationRegistry) {
+        return new MicrometerObservationCapability(observationRegistry, new EmployeeClientObservationConvention());
+    }
+
+    /**
+     * Decodes responses of the Employee Service from binary Smile or from JSON, whichever it answered with. The Smile
+     * mapper is a copy of the application's JSON mapper, so both read the employee fields alike.
+     */
+    @Bean
+    public Decoder feignDecoder(
+            ObjectMapper objectMapper,
+            @Value("${employee.cache.compact-roster:false}") boolean compactRoster,
+            ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        // A compact roster is decoded into columns straight away, see RosterSnapshotDeserializer
+        ObjectMapper clientMapper = compactRoster
+                ? objectMapper
+                        .copy()
+                        .setDefaultAttributes(ContextAttributes.getEmpty()
+                                .withSharedAttribute(RosterSnapshotDeserializer.COMPACT, Boolean.TRUE))
+                : objectMapper;
+        HttpMessageConverters converters = new HttpMessageConverters(
+                false,
+                List.of(
+                        new MappingJackson2SmileHttpMessageConverter(clientMapper.copyWith(new SmileFactory())),
+                        new MappingJackson2HttpMessageConverter(clientMapper)));
+        return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(() -> converters, customizers)));
+    }
+
+    /**
+     * Asks the Employee Service for Smile, which is smaller and cheaper to decode than JSON, with JSON as the fallback
+     * for a server that does not support it. Request bodies stay JSON.
+     */
+    @Bean
+    public RequestInterceptor wireFormatNegotiation(
+            @Value("${employee.service.smile-enabled:true}") boolean smileEnabled) {
+        List<String> accept = smileEnabled
+                ? List.of(SMILE_MEDIA_TYPE, "application/json;q=0.9")
+                : List.of(MediaType.APPLICATION_JSON_VALUE);
+        return template -> {
+            template.removeHeader(HttpHeaders.ACCEPT);
+            template.header(HttpHeaders.ACCEPT, accept);
+        };
+    }
 }
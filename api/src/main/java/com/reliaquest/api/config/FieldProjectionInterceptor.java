@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Reads the {@code fields} parameter of a read and keeps the projection in a request attribute, where
+ * {@link ProjectedEmployeeHttpMessageConverter} finds it. An invalid parameter is answered with 400 before the
+ * controller runs.
+ */
+public class FieldProjectionInterceptor implements HandlerInterceptor {
+
+    static final String PROJECTION_ATTRIBUTE = FieldProjectionInterceptor.class.getName() + ".projection";
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        String fields = request.getParameter(FIELDS_PARAMETER);
+        if (fields != null) {
+            request.setAttribute(PROJECTION_ATTRIBUTE, EmployeeProjection.parse(fields));
+        }
+        return true;
+    }
+}
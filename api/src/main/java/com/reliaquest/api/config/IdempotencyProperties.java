@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the results kept for {@code Idempotency-Key} creates, bound from {@code employee.idempotency.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a create can be repeated with the same key and get the first result back.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How many keys are remembered at most, beyond that the cache evicts keys before their ttl.
+     */
+    private long maximumSize = 10_000;
+}
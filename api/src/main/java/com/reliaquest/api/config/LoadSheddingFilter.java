@@ -0,0 +1,131 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.AdaptiveConcurrencyLimit.Priority;
+import com.reliaquest.api.service.EmployeeDataService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sheds inbound requests beyond the {@link AdaptiveConcurrencyLimit} with an immediate 503 and {@code Retry-After},
+ * instead of letting them queue up behind a slow Employee Service. Creates and deletes are shed first, then reads that
+ * need the Employee Service, and reads answered from the cached roster last.
+ *
+ * <p>Reads are classified by the state of the cache when they arrive: while the roster is cached every read is answered
+ * from it, except the lookup of an id that is not on it, which goes on to the Employee Service.
+ */
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final String EMPLOYEES_PATH = "/employees/";
+    private static final String OPERATIONS_PATH = "/employees/operations/";
+
+    // The reads of EmployeeController and EmployeeQueryController one segment below /employees that are not an id
+    private static final Set<String> NAMED_READS =
+            Set.of("highestSalary", "topTenHighestEarningEmployeeNames", "query", "suggest");
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final EmployeeDataService employeeDataService;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Map<Priority, Counter> shedCounters = new EnumMap<>(Priority.class);
+
+    public LoadSheddingFilter(
+            LoadSheddingProperties properties,
+            EmployeeDataService employeeDataService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.limit = new AdaptiveConcurrencyLimit(properties);
+        this.employeeDataService = employeeDataService;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+        Gauge.builder("employee.inbound.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive limit of concurrent requests to the API")
+                .register(meterRegistry);
+        Gauge.builder("employee.inbound.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests to the API currently admitted by the concurrency limit")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            shedCounters.put(
+                    priority,
+                    Counter.builder("employee.inbound.shed")
+                            .description("Requests to the API rejected because the concurrency limit was reached")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (!limit.tryAcquire(priority)) {
+            shedCounters.get(priority).increment();
+            log.debug("Shedding {} {} at a limit of {}", request.getMethod(), request.getRequestURI(), limit.getLimit());
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private Priority priorityOf(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return Priority.WRITE;
+        }
+        String path = request.getRequestURI();
+        if (path.startsWith(OPERATIONS_PATH)) {
+            return Priority.CACHED_READ;
+        }
+        String id = lookedUpId(path);
+        boolean cached = id != null
+                ? employeeDataService.isCachedEmployee(id)
+                : employeeDataService.getCachedRosterVersion().isPresent();
+        return cached ? Priority.CACHED_READ : Priority.READ;
+    }
+
+    // The id of a GET /employees/{id}, or null for the other reads
+    private static String lookedUpId(String path) {
+        if (!path.startsWith(EMPLOYEES_PATH)) {
+            return null;
+        }
+        String segment = path.substring(EMPLOYEES_PATH.length());
+        return segment.isEmpty() || segment.contains("/") || NAMED_READS.contains(segment) ? null : segment;
+    }
+
+    // Same body as the errors of GlobalExceptionHandler, which the filter is not behind
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", "Too many requests in progress. Please retry.");
+        body.put("details", "The API is overloaded and shed this request");
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
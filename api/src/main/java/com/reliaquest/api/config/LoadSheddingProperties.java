@@ -0,0 +1,47 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the inbound concurrency limit, bound from {@code employee.load-shedding.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 100;
+
+    private int minLimit = 10;
+
+    private int maxLimit = 500;
+
+    /**
+     * Latency above which a request counts as a sign of overload and the limit is lowered.
+     */
+    private Duration targetLatency = Duration.ofMillis(500);
+
+    /**
+     * Factor the limit is multiplied with when it is lowered.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Share of the limit that reads answered from the Employee Service may take up. Cache-served reads may use all of
+     * it.
+     */
+    private double readShare = 0.8;
+
+    /**
+     * Share of the limit that creates and deletes may take up, the first to be shed.
+     */
+    private double writeShare = 0.5;
+
+    /**
+     * Sent as {@code Retry-After} with every shed request.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Narrows a handler method to requests whose {@code Prefer} header names the preference, among any others and with
+ * any value or parameters, see {@link PreferenceRequestCondition}. A request without it goes to the handler that is
+ * mapped the same way but without this annotation.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PreferenceMapping {
+
+    /**
+     * The name of the preference, e.g. {@code respond-async}, matched ignoring case.
+     */
+    String value();
+}
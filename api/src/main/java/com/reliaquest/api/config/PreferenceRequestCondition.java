@@ -0,0 +1,88 @@
+package com.reliaquest.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.mvc.condition.AbstractRequestCondition;
+
+/**
+ * Matches requests whose {@code Prefer} header (RFC 7240) names a preference. The header is parsed rather than
+ * compared as a whole, so {@code Prefer: respond-async, wait=5} asks for {@code respond-async}, and so does
+ * {@code Prefer: wait=5} sent along with {@code Prefer: Respond-Async}. A mapping with this condition is preferred over
+ * the same mapping without it.
+ */
+public final class PreferenceRequestCondition extends AbstractRequestCondition<PreferenceRequestCondition> {
+
+    static final String PREFER_HEADER = "Prefer";
+
+    private final String preference;
+
+    public PreferenceRequestCondition(String preference) {
+        this.preference = preference;
+    }
+
+    @Override
+    protected Collection<String> getContent() {
+        return List.of(preference);
+    }
+
+    @Override
+    protected String getToStringInfix() {
+        return " && ";
+    }
+
+    // Only one preference is mapped per handler, the method level one is kept
+    @Override
+    public PreferenceRequestCondition combine(PreferenceRequestCondition other) {
+        return other;
+    }
+
+    @Override
+    public PreferenceRequestCondition getMatchingCondition(HttpServletRequest request) {
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return this;
+        }
+        return prefers(request.getHeaders(PREFER_HEADER), preference) ? this : null;
+    }
+
+    @Override
+    public int compareTo(PreferenceRequestCondition other, HttpServletRequest request) {
+        return 0;
+    }
+
+    /**
+     * Whether any of the {@code Prefer} header values names the preference. Each value is a comma separated list of
+     * preferences, each a name with an optional {@code =value} and {@code ;parameters}, where a quoted value may hold
+     * commas.
+     */
+    static boolean prefers(Enumeration<String> headerValues, String preference) {
+        while (headerValues != null && headerValues.hasMoreElements()) {
+            String value = headerValues.nextElement();
+            boolean quoted = false;
+            int start = 0;
+            for (int i = 0; i <= value.length(); i++) {
+                char c = i < value.length() ? value.charAt(i) : ',';
+                if (c == '"' && (i == 0 || value.charAt(i - 1) != '\\')) {
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    if (preference.equalsIgnoreCase(name(value, start, i))) {
+                        return true;
+                    }
+                    start = i + 1;
+                }
+            }
+        }
+        return false;
+    }
+
+    // The name of the preference between the offsets, before any value or parameter
+    private static String name(String value, int from, int to) {
+        int end = from;
+        while (end < to && value.charAt(end) != '=' && value.charAt(end) != ';') {
+            end++;
+        }
+        return value.substring(from, end).trim();
+    }
+}
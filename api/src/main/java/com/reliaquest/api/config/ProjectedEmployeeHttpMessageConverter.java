@@ -0,0 +1,107 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.EmployeePage;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Writes employees, lists and pages of them, and the roster with only the properties a client asked for with
+ * {@code fields}, see {@link FieldProjectionInterceptor}. Responses of requests without {@code fields} are left to the
+ * other converters.
+ *
+ * <p>Every projection gets a writer of its own, built once from a copy of the application's mapper with a serializer
+ * that writes just the projected properties. There are only as many projections as subsets of the six properties, so
+ * the writers are kept for good. A projected roster is serialized straight to the response on every request rather
+ * than taken from the JSON the roster keeps, so it goes out chunked, without a {@code Content-Length}.
+ */
+public class ProjectedEmployeeHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Set<EmployeeProjection.Field>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ProjectedEmployeeHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && projection() != null && isEmployees(type != null ? type : clazz, clazz);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isEmployees(clazz, clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Projected employees cannot be read from a request", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Projected employees cannot be read from a request", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object employees, Type type, HttpOutputMessage outputMessage) throws IOException {
+        EmployeeProjection projection = projection();
+        // Streamed to the response rather than buffered, a projected roster is as long as the roster
+        writers.computeIfAbsent(projection.fields(), ignored -> writerFor(projection))
+                .writeValue(StreamUtils.nonClosing(outputMessage.getBody()), employees);
+    }
+
+    private ObjectWriter writerFor(EmployeeProjection projection) {
+        SimpleModule module = new SimpleModule("employeeProjection");
+        module.addSerializer(EmployeeResponseDto.class, projection.serializer());
+        return objectMapper.copy().registerModule(module).writer();
+    }
+
+    // Covers the roster too, which is written as the list it is
+    private static boolean isEmployees(Type type, Class<?> clazz) {
+        if (EmployeeResponseDto.class.isAssignableFrom(clazz) || EmployeePage.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        return Collection.class.isAssignableFrom(clazz)
+                && resolvableType.asCollection().resolveGeneric(0) == EmployeeResponseDto.class;
+    }
+
+    private static EmployeeProjection projection() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object projection = attributes.getAttribute(
+                FieldProjectionInterceptor.PROJECTION_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return projection instanceof EmployeeProjection employeeProjection ? employeeProjection : null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.reliaquest.api.config;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,10 +16,18 @@ public class ResilienceConfig {
 
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final RetryRegistry retryRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
 
-    public ResilienceConfig(CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry) {
+    public ResilienceConfig(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
         this.circuitBreakerRegistry = circuitBreakerRegistry;
         this.retryRegistry = retryRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct
@@ -43,5 +54,17 @@ public class ResilienceConfig {
                             retry.getName(),
                             event.getLastThrowable().toString()));
         });
+
+        // Resilience4j only exposes the available and maximum concurrent calls, rejections are counted here
+        bulkheadRegistry.getAllBulkheads().forEach(bulkhead -> {
+            Counter rejected = Counter.builder("employee.bulkhead.rejected")
+                    .description("Calls to the Employee Service rejected because their bulkhead was full")
+                    .tag("name", bulkhead.getName())
+                    .register(meterRegistry);
+            bulkhead.getEventPublisher().onCallRejected(event -> {
+                rejected.increment();
+                logger.warn("Bulkhead '{}' full, call rejected", bulkhead.getName());
+            });
+        });
     }
 }
@@ -0,0 +1,75 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.helper.RequestDeadline;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fits the retries into the deadline of the request. A failure is not retried when the deadline would pass before the
+ * wait for the retry is over: the retry gives up right away with that failure, instead of sleeping only for the next
+ * attempt to be refused, so the stale roster can still be served in time. Giving up is decided by the exception
+ * predicate of the retry, so it is published and counted like any other failure that is not retried.
+ *
+ * <p>The predicate does not know which attempt failed and compares the time left with the wait before the first
+ * retry, which is every wait with a fixed {@code wait-duration}. A later wait that is longer, with a growing interval
+ * function, is cut short at the deadline and the attempt after it is refused by {@link DeadlineCapability}.
+ */
+@Configuration
+public class RetryDeadlineConfig {
+
+    @Bean
+    public RetryConfigCustomizer employeeReadRetryDeadline() {
+        return fitRetriesToDeadline("employeeRead");
+    }
+
+    @Bean
+    public RetryConfigCustomizer employeeCreateRetryDeadline() {
+        return fitRetriesToDeadline("employeeCreate");
+    }
+
+    @Bean
+    public RetryConfigCustomizer employeeDeleteRetryDeadline() {
+        return fitRetriesToDeadline("employeeDelete");
+    }
+
+    @SuppressWarnings("unchecked")
+    static RetryConfigCustomizer fitRetriesToDeadline(String retryName) {
+        return RetryConfigCustomizer.of(retryName, builder -> {
+            RetryConfig<Object> config = builder.build();
+            Predicate<Throwable> retryable = config.getExceptionPredicate();
+            IntervalBiFunction<Object> wait = config.getIntervalBiFunction();
+            // Retry exceptions are or-ed with the predicate, so the predicate takes them over along with the deadline
+            builder.retryExceptions()
+                    .retryOnException(retryableWithinDeadline(retryable, wait))
+                    .intervalBiFunction(capToDeadline(wait));
+        });
+    }
+
+    static Predicate<Throwable> retryableWithinDeadline(
+            Predicate<Throwable> retryable, IntervalBiFunction<Object> wait) {
+        return failure -> {
+            if (!retryable.test(failure)) {
+                return false;
+            }
+            Optional<Duration> remaining = RequestDeadline.remaining();
+            return remaining.isEmpty() || remaining.get().toMillis() > wait.apply(1, Either.left(failure));
+        };
+    }
+
+    static IntervalBiFunction<Object> capToDeadline(IntervalBiFunction<Object> wait) {
+        return (attempt, result) -> {
+            long waitMillis = wait.apply(attempt, result);
+            // A millisecond past the deadline, so that the attempt after the wait is refused rather than squeezed in
+            return RequestDeadline.remaining()
+                    .map(remaining -> Math.min(waitMillis, Math.max(0, remaining.toMillis() + 1)))
+                    .orElse(waitMillis);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.coherence.InMemoryRosterChangeBus;
+import com.reliaquest.api.service.coherence.RosterChangeBus;
+import com.reliaquest.api.service.coherence.UdpRosterChangeBus;
+import java.net.InetSocketAddress;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RosterCoherenceConfig {
+
+    @Bean
+    public RosterChangeBus rosterChangeBus(RosterCoherenceProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.getTransport()) {
+            case IN_MEMORY -> new InMemoryRosterChangeBus();
+            case UDP -> {
+                List<InetSocketAddress> peers = properties.getPeers().stream()
+                        .map(RosterCoherenceConfig::toAddress)
+                        .toList();
+                yield new UdpRosterChangeBus(
+                        new InetSocketAddress(properties.getBindAddress(), properties.getPort()), peers, objectMapper);
+            }
+        };
+    }
+
+    private static InetSocketAddress toAddress(String peer) {
+        int separator = peer.lastIndexOf(':');
+        if (separator < 1) {
+            throw new IllegalArgumentException("Peer must be given as host:port, got " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the bus that keeps the roster caches of the API replicas coherent, bound from
+ * {@code employee.coherence.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.coherence")
+public class RosterCoherenceProperties {
+
+    public enum Transport {
+        IN_MEMORY,
+        UDP
+    }
+
+    /**
+     * How changes reach the other replicas: {@code in-memory} within this process only, or {@code udp} datagrams.
+     */
+    private Transport transport = Transport.IN_MEMORY;
+
+    /**
+     * Address the UDP socket is bound to, the loopback interface unless peers run on other hosts.
+     */
+    private String bindAddress = "127.0.0.1";
+
+    /**
+     * UDP port this replica receives the changes of its peers on, and sends its own from.
+     */
+    private int port = 8113;
+
+    /**
+     * The other replicas as {@code host:port}, sent every change made through this one. Datagrams from any other
+     * address are ignored.
+     */
+    private List<String> peers = new ArrayList<>();
+}
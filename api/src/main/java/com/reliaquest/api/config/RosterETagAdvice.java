@@ -0,0 +1,61 @@
+package com.reliaquest.api.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the ETag and {@code Cache-Control} headers to successful responses of the requests that
+ * {@link RosterETagInterceptor} saw with a warm roster.
+ */
+@ControllerAdvice
+public class RosterETagAdvice implements ResponseBodyAdvice<Object> {
+
+    private final RosterETagInterceptor rosterETagInterceptor;
+
+    public RosterETagAdvice(RosterETagInterceptor rosterETagInterceptor) {
+        this.rosterETagInterceptor = rosterETagInterceptor;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Object version =
+                servletRequest.getServletRequest().getAttribute(RosterETagInterceptor.ROSTER_VERSION_ATTRIBUTE);
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        if (version instanceof Long rosterVersion && httpResponse.getStatus() == HttpStatus.OK.value()) {
+            String eTag = rosterETagInterceptor.currentETag(rosterVersion);
+            if (eTag != null) {
+                response.getHeaders().setETag(eTag);
+                response.getHeaders()
+                        .set(
+                                HttpHeaders.CACHE_CONTROL,
+                                rosterETagInterceptor.getCacheControl().getHeaderValue());
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.EmployeeDataService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Conditional GET for the read endpoints that are answered from the cached roster. Their ETag is the version of the
+ * roster, so a matching {@code If-None-Match} is answered with 304 before the controller runs.
+ *
+ * <p>The ETag itself is added by {@link RosterETagAdvice}, and only if the roster did not change while the controller
+ * ran: the version seen here is kept in a request attribute for it. Responses computed without a warm roster get no
+ * ETag.
+ */
+public class RosterETagInterceptor implements HandlerInterceptor {
+
+    static final String ROSTER_VERSION_ATTRIBUTE = RosterETagInterceptor.class.getName() + ".rosterVersion";
+
+    // Versions restart with the process, the instance id keeps ETags of an earlier run from matching
+    private final String instanceId = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    private final EmployeeDataService employeeDataService;
+    private final CacheControl cacheControl;
+
+    public RosterETagInterceptor(EmployeeDataService employeeDataService, Duration maxAge) {
+        this.employeeDataService = employeeDataService;
+        this.cacheControl = maxAge.isZero()
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        OptionalLong version = employeeDataService.getCachedRosterVersion();
+        if (version.isEmpty()) {
+            return true;
+        }
+        String eTag = eTag(version.getAsLong());
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            // A 304 repeats the Vary of the 200 it stands for, and the roster is sent gzipped when accepted
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return false;
+        }
+        request.setAttribute(ROSTER_VERSION_ATTRIBUTE, version.getAsLong());
+        return true;
+    }
+
+    /**
+     * The ETag for a response computed from the given roster version, or {@code null} if the cached roster is no
+     * longer at that version.
+     */
+    String currentETag(long version) {
+        OptionalLong current = employeeDataService.getCachedRosterVersion();
+        return current.isPresent() && current.getAsLong() == version ? eTag(version) : null;
+    }
+
+    CacheControl getCacheControl() {
+        return cacheControl;
+    }
+
+    // If-None-Match uses the weak comparison, which ignores the W/ prefix. "*" is not honoured, as it would also
+    // match ids that are not on the roster
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeakPrefix(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (stripWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    // Weak, as the gzipped and the plain body of a version are not byte for byte the same
+    private String eTag(long version) {
+        return "W/\"" + instanceId + "-" + version + "\"";
+    }
+}
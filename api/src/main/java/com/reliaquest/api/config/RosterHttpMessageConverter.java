@@ -0,0 +1,82 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.RosterSnapshot;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes a {@link RosterSnapshot} from the JSON bytes it keeps, instead of serializing the roster on every response.
+ * The gzipped copy is sent to clients that accept it.
+ */
+public class RosterHttpMessageConverter extends AbstractHttpMessageConverter<RosterSnapshot> {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectWriter writer;
+
+    public RosterHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.writer = objectMapper.writerFor(new TypeReference<List<EmployeeResponseDto>>() {});
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RosterSnapshot.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected RosterSnapshot readInternal(Class<? extends RosterSnapshot> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("A roster snapshot cannot be read from a request", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(RosterSnapshot roster, HttpOutputMessage outputMessage) throws IOException {
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] body;
+        if (acceptsGzip()) {
+            body = roster.toGzippedJson(writer);
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        } else {
+            body = roster.toJson(writer);
+        }
+        headers.setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+
+    private static boolean acceptsGzip() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
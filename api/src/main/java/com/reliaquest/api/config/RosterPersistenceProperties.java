@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the warm start, which keeps the roster in a local file across restarts, bound from
+ * {@code employee.roster-persistence.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.roster-persistence")
+public class RosterPersistenceProperties {
+
+    /**
+     * Whether the roster is written to and restored from the file.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The file the roster is kept in. Written by replacing it, so readers never see a partly written roster. Every
+     * instance on a host needs a file of its own.
+     */
+    private Path file = Path.of(System.getProperty("java.io.tmpdir"), "employee-api", "roster.bin");
+
+    /**
+     * How often the roster is written, when it has changed since it was last written.
+     */
+    private Duration writeInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.constants.AppConstants;
+import java.time.Duration;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Tells clients when a response was answered from the last good roster because the Employee Service was unavailable,
+ * with the age of that roster in seconds.
+ */
+@ControllerAdvice
+public class StaleRosterAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(AppConstants.STALE_ROSTER_AGE_ATTRIBUTE)
+                        instanceof Duration age) {
+            response.getHeaders().set(AppConstants.STALE_ROSTER_AGE_HEADER, String.valueOf(age.toSeconds()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.EmployeeDataService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // GET /employees/{id} is matched by /employees/*, which does not reach the search under /employees/search/{name}
+    private static final String[] ROSTER_READ_PATHS = {"/employees", "/employees/*"};
+
+    private static final String[] EMPLOYEE_PATHS = {"/employees", "/employees/**"};
+
+    private final EmployeeDataService employeeDataService;
+    private final Duration cacheMaxAge;
+    private final DeadlineProperties deadlineProperties;
+
+    // Lazy, as the Feign client behind the service needs the MVC message converters this configurer contributes to
+    public WebConfig(
+            @Lazy EmployeeDataService employeeDataService,
+            @Value("${employee.http-cache.max-age:PT0S}") Duration cacheMaxAge,
+            DeadlineProperties deadlineProperties) {
+        this.employeeDataService = employeeDataService;
+        this.cacheMaxAge = cacheMaxAge;
+        this.deadlineProperties = deadlineProperties;
+    }
+
+    // Picked up by Spring Boot ahead of the default converters
+    @Bean
+    public RosterHttpMessageConverter rosterHttpMessageConverter(ObjectMapper objectMapper) {
+        return new RosterHttpMessageConverter(objectMapper);
+    }
+
+    // Ahead of the roster converter and of Jackson, it only takes the responses of requests with fields
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public ProjectedEmployeeHttpMessageConverter projectedEmployeeHttpMessageConverter(ObjectMapper objectMapper) {
+        return new ProjectedEmployeeHttpMessageConverter(objectMapper);
+    }
+
+    // Lets a handler method be narrowed to a preference of the Prefer header with @PreferenceMapping. Static, as the
+    // MVC configuration asks for it before this configurer is built
+    @Bean
+    public static WebMvcRegistrations preferenceMappingRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return new RequestMappingHandlerMapping() {
+                    @Override
+                    protected RequestCondition<?> getCustomMethodCondition(Method method) {
+                        PreferenceMapping mapping =
+                                AnnotatedElementUtils.findMergedAnnotation(method, PreferenceMapping.class);
+                        return mapping != null ? new PreferenceRequestCondition(mapping.value()) : null;
+                    }
+                };
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.load-shedding.enabled", matchIfMissing = true)
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            LoadSheddingProperties loadSheddingProperties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(
+                new LoadSheddingFilter(loadSheddingProperties, employeeDataService, objectMapper, meterRegistry));
+        // Servlet URL patterns, /employees/* covers every path below /employees
+        registration.addUrlPatterns("/employees", "/employees/*");
+        return registration;
+    }
+
+    @Bean
+    public RosterETagInterceptor rosterETagInterceptor() {
+        return new RosterETagInterceptor(employeeDataService, cacheMaxAge);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DeadlineInterceptor(deadlineProperties)).addPathPatterns(EMPLOYEE_PATHS);
+        registry.addInterceptor(new FieldProjectionInterceptor()).addPathPatterns(EMPLOYEE_PATHS);
+        registry.addInterceptor(rosterETagInterceptor()).addPathPatterns(ROSTER_READ_PATHS);
+    }
+}
@@ -3,4 +3,28 @@ package com.reliaquest.api.constants;
 public class AppConstants {
 
     public static final String CACHE_KEY_ALL = "all";
+
+    public static final String EMPLOYEE_CACHE_NAME = "employees";
+
+    public static final String MISSING_EMPLOYEE_CACHE_NAME = "missingEmployees";
+
+    public static final String RANK_BY_SALARY = "salary";
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final int DEFAULT_SUGGESTIONS = 10;
+
+    public static final int MAX_SUGGESTIONS = 100;
+
+    // Request attribute holding the age of the roster a degraded read was answered from
+    public static final String STALE_ROSTER_AGE_ATTRIBUTE = "com.reliaquest.api.staleRosterAge";
+
+    public static final String STALE_ROSTER_AGE_HEADER = "X-Roster-Staleness-Seconds";
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // Milliseconds the client is willing to wait for the response
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
 }
@@ -1,32 +1,54 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.constants.AppConstants;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.CursorPage;
+import com.reliaquest.api.model.EmployeeCursor;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSort;
 import com.reliaquest.api.service.EmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.OptionalInt;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Slf4j
 @RestController
 @RequestMapping("/employees")
 public class EmployeeController implements IEmployeeController<EmployeeResponseDto, EmployeeRequest> {
 
+    private static final String LIMIT_PARAMETER = "limit";
+    private static final String SORT_PARAMETER = "sort";
+    private static final String CURSOR_PARAMETER = "cursor";
+
     private final EmployeeService employeeService;
 
     public EmployeeController(EmployeeService employeeService) {
         this.employeeService = employeeService;
     }
 
+    /**
+     * The whole roster, or with {@code limit}, {@code sort} or {@code cursor} one page of it with a link to the next.
+     */
     @Override
     public ResponseEntity<List<EmployeeResponseDto>> getAllEmployees() {
+        HttpServletRequest request = currentRequest();
+        if (request != null && isPaged(request)) {
+            return pageResponse(employeeService.getEmployeesPage(sort(request), cursor(request), limit(request)));
+        }
         List<EmployeeResponseDto> employees;
         employees = employeeService.getAllEmployees();
         return ResponseEntity.ok(employees);
@@ -34,6 +56,11 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
 
     @Override
     public ResponseEntity<List<EmployeeResponseDto>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        HttpServletRequest request = currentRequest();
+        if (request != null && isPaged(request)) {
+            return pageResponse(employeeService.searchEmployeesByNamePage(
+                    searchString, sort(request), cursor(request), limit(request)));
+        }
         List<EmployeeResponseDto> employees = employeeService.searchEmployeesByName(searchString);
         return ResponseEntity.ok(employees);
     }
@@ -64,7 +91,7 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
 
     @Override
     public ResponseEntity<EmployeeResponseDto> createEmployee(@RequestBody @Valid EmployeeRequest employeeInput) {
-        EmployeeResponseDto created = employeeService.createEmployee(employeeInput);
+        EmployeeResponseDto created = employeeService.createEmployee(employeeInput, idempotencyKey());
         return ResponseEntity.status(201).body(created);
     }
 
@@ -77,4 +104,66 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
             throw new EmployeeNotFoundException("No employee found with id: " + id);
         }
     }
+
+    // IEmployeeController fixes the parameters of createEmployee, so the header is read from the current request
+    private static String idempotencyKey() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? request.getHeader(AppConstants.IDEMPOTENCY_KEY_HEADER) : null;
+    }
+
+    /**
+     * A page of a paged read as the body, and the URL of the next page, the request with the cursor of the next page,
+     * in a {@code Link} header with {@code rel="next"}. The last page has no link.
+     */
+    private static ResponseEntity<List<EmployeeResponseDto>> pageResponse(CursorPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam(CURSOR_PARAMETER, page.next().encode())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.content());
+    }
+
+    // IEmployeeController fixes the parameters of the reads as well, the paging parameters are read from the request
+    private static boolean isPaged(HttpServletRequest request) {
+        return request.getParameter(LIMIT_PARAMETER) != null
+                || request.getParameter(SORT_PARAMETER) != null
+                || request.getParameter(CURSOR_PARAMETER) != null;
+    }
+
+    private static int limit(HttpServletRequest request) {
+        String limit = request.getParameter(LIMIT_PARAMETER);
+        if (limit == null) {
+            return AppConstants.DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Integer.parseInt(limit.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidQueryException("limit must be a number, got " + limit);
+        }
+    }
+
+    // The order of the cursor when none is given, so that following a cursor needs no other parameter
+    private static EmployeeSort sort(HttpServletRequest request) {
+        String sort = request.getParameter(SORT_PARAMETER);
+        if (sort != null) {
+            return EmployeeSort.parse(sort);
+        }
+        EmployeeCursor cursor = cursor(request);
+        return cursor != null ? cursor.sort() : EmployeeSort.BY_NAME;
+    }
+
+    private static EmployeeCursor cursor(HttpServletRequest request) {
+        String cursor = request.getParameter(CURSOR_PARAMETER);
+        return cursor != null ? EmployeeCursor.decode(cursor) : null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes instanceof ServletRequestAttributes servletRequestAttributes
+                ? servletRequestAttributes.getRequest()
+                : null;
+    }
 }
@@ -0,0 +1,58 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.config.PreferenceMapping;
+import com.reliaquest.api.constants.AppConstants;
+import com.reliaquest.api.model.CreateOperation;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.service.EmployeeCreateQueue;
+import jakarta.validation.Valid;
+import java.net.URI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Asynchronous employee creation. A {@code POST /employees} whose {@code Prefer} header asks for
+ * {@code respond-async}, along with any other preferences, is mapped here instead of {@link EmployeeController}: it
+ * is answered with 202 as soon as the request is validated and queued, and its outcome is polled at the returned
+ * location.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/employees")
+public class EmployeeOperationController {
+
+    static final String RESPOND_ASYNC = "respond-async";
+
+    private final EmployeeCreateQueue employeeCreateQueue;
+
+    public EmployeeOperationController(EmployeeCreateQueue employeeCreateQueue) {
+        this.employeeCreateQueue = employeeCreateQueue;
+    }
+
+    @PostMapping
+    @PreferenceMapping(RESPOND_ASYNC)
+    public ResponseEntity<CreateOperation> createEmployeeAsync(
+            @RequestBody @Valid EmployeeRequest employeeInput,
+            @RequestHeader(name = AppConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        CreateOperation operation = employeeCreateQueue.submit(employeeInput, idempotencyKey);
+        return ResponseEntity.accepted()
+                .location(URI.create("/employees/operations/" + operation.getId()))
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(operation);
+    }
+
+    @GetMapping("/operations/{id}")
+    public ResponseEntity<CreateOperation> getOperation(@PathVariable String id) {
+        return employeeCreateQueue
+                .getOperation(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.constants.AppConstants;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.EmployeeSuggestion;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Filtered, paginated reads of the roster and name suggestions. Kept apart from {@link EmployeeController}, whose
+ * endpoints are fixed by {@link IEmployeeController}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/employees")
+public class EmployeeQueryController {
+
+    private final EmployeeService employeeService;
+
+    public EmployeeQueryController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /**
+     * Employees matching every given criterion: {@code minSalary}, {@code maxSalary}, {@code minAge} and
+     * {@code maxAge} are inclusive bounds, {@code title} matches ignoring case and {@code nameContains} is a name
+     * fragment. Answered a page at a time, {@code page} counting from 0.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<EmployeePage> queryEmployees(
+            EmployeeSearchRequest criteria,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + AppConstants.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(employeeService.queryEmployees(criteria, page, size));
+    }
+
+    /**
+     * Up to {@code k} employees with a word of their name starting with {@code prefix}, ignoring case and accents, in
+     * alphabetical order of the name from that word on. Meant for a type-ahead, so only ids and names are returned.
+     * The prefix is checked by the service, so a missing one is answered with 400 like a blank one.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EmployeeSuggestion>> suggestEmployees(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "" + AppConstants.DEFAULT_SUGGESTIONS) int k) {
+        return ResponseEntity.ok(employeeService.suggestEmployees(prefix, k));
+    }
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class CreateQueueFullException extends RuntimeException {
+    public CreateQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package com.reliaquest.api.exception;
 
 import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -27,8 +28,39 @@ public class GlobalExceptionHandler {
                 "Downstream service is currently unreachable");
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Object> handleBulkheadFullException(BulkheadFullException ex) {
+        // Too many calls of this kind are already waiting on the downstream service, shed this one
+        log.warn("BulkheadFullException occurred: {}", ex.getMessage());
+        return buildResponseStructure(
+                HttpStatus.SERVICE_UNAVAILABLE, "Too many requests in progress. Please retry.", ex.getMessage());
+    }
+
+    @ExceptionHandler(CreateQueueFullException.class)
+    public ResponseEntity<Object> handleCreateQueueFullException(CreateQueueFullException ex) {
+        log.warn("CreateQueueFullException occurred: {}", ex.getMessage());
+        return buildResponseStructure(
+                HttpStatus.SERVICE_UNAVAILABLE, "Too many requests in progress. Please retry.", ex.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException ex) {
+        return buildResponse(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key already used", ex);
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Object> handleDeadlineExceededException(DeadlineExceededException ex) {
+        log.warn("DeadlineExceededException occurred: {}", ex.getMessage());
+        return buildResponse(HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded", ex);
+    }
+
     // Handle all unhandled exceptions
 
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<Object> handleInvalidQueryException(InvalidQueryException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, "Invalid query", ex);
+    }
+
     @ExceptionHandler(EmployeeNotFoundException.class)
     public ResponseEntity<Object> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
         return buildResponse(HttpStatus.NOT_FOUND, "No data found", ex);
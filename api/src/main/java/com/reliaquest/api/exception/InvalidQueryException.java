@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class InvalidQueryException extends RuntimeException {
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,443 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Columnar roster store for large rosters. Salaries and ages are {@code int} columns, ids that are UUIDs in canonical
+ * form are kept as two {@code long}s, titles are codes into a dictionary of the distinct titles, and names and emails
+ * are UTF-8 bytes in a {@link StringColumn}. Ids are looked up through a single open addressing table of row numbers.
+ *
+ * <p>No {@link EmployeeResponseDto} is kept: {@link #get(int)} and {@link #findById(String)} build a new one on every
+ * call, so they are meant to be used where a response is written. Rows that are read repeatedly should be kept by the
+ * caller.
+ */
+final class CompactRoster implements RosterStore {
+
+    private static final int NO_TITLE = -1;
+
+    private final int size;
+    private final long[] idHigh;
+    private final long[] idLow;
+
+    // Ids that are not UUIDs in canonical form, by row. Null when there are none, which is the usual case.
+    private final String[] otherIds;
+
+    private final StringColumn names;
+    private final StringColumn emails;
+    private final String[] titles;
+    private final int[] titleCodes;
+    private final int[] salaries;
+    private final int[] ages;
+
+    // Row + 1 for every id, 0 marks an empty slot. Sized to a power of two at least twice the roster size.
+    private final int[] index;
+
+    // Takes ownership of the columns. The index is built when none is given.
+    private CompactRoster(
+            int size,
+            long[] idHigh,
+            long[] idLow,
+            String[] otherIds,
+            StringColumn names,
+            StringColumn emails,
+            String[] titles,
+            int[] titleCodes,
+            int[] salaries,
+            int[] ages,
+            int[] index) {
+        this.size = size;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.otherIds = otherIds;
+        this.names = names;
+        this.emails = emails;
+        this.titles = titles;
+        this.titleCodes = titleCodes;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.index = index != null ? index : buildIndex();
+    }
+
+    static CompactRoster of(List<EmployeeResponseDto> employees) {
+        Builder builder = new Builder(employees.size());
+        employees.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public EmployeeResponseDto get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id(index));
+        employee.setName(names.get(index));
+        employee.setSalary(salaries[index]);
+        employee.setAge(ages[index]);
+        employee.setTitle(titleCodes[index] == NO_TITLE ? null : titles[titleCodes[index]]);
+        employee.setEmail(emails.get(index));
+        return employee;
+    }
+
+    @Override
+    public EmployeeResponseDto findById(String id) {
+        int row = rowOf(id);
+        return row < 0 ? null : get(row);
+    }
+
+    /**
+     * Copies the columns around the changed row, or appends it, without decoding any other row. The title dictionary
+     * is shared with this roster unless the title is new to it.
+     */
+    @Override
+    public RosterStore with(EmployeeResponseDto employee) {
+        Objects.requireNonNull(employee.getId(), "employee id");
+        int existing = rowOf(employee.getId());
+        int row = existing < 0 ? size : existing;
+        int newSize = existing < 0 ? size + 1 : size;
+
+        UUID uuid = canonicalUuid(employee.getId());
+        long[] newIdHigh = Arrays.copyOf(idHigh, newSize);
+        long[] newIdLow = Arrays.copyOf(idLow, newSize);
+        String[] newOtherIds = otherIds != null ? Arrays.copyOf(otherIds, newSize) : null;
+        if (uuid != null) {
+            newIdHigh[row] = uuid.getMostSignificantBits();
+            newIdLow[row] = uuid.getLeastSignificantBits();
+            if (newOtherIds != null) {
+                newOtherIds[row] = null;
+            }
+        } else {
+            newOtherIds = newOtherIds != null ? newOtherIds : new String[newSize];
+            newIdHigh[row] = 0;
+            newIdLow[row] = 0;
+            newOtherIds[row] = employee.getId();
+        }
+
+        String[] newTitles = titles;
+        int titleCode = NO_TITLE;
+        if (employee.getTitle() != null) {
+            titleCode = Arrays.asList(titles).indexOf(employee.getTitle());
+            if (titleCode < 0) {
+                titleCode = titles.length;
+                newTitles = Arrays.copyOf(titles, titles.length + 1);
+                newTitles[titleCode] = employee.getTitle();
+            }
+        }
+        int[] newTitleCodes = Arrays.copyOf(titleCodes, newSize);
+        newTitleCodes[row] = titleCode;
+        int[] newSalaries = Arrays.copyOf(salaries, newSize);
+        newSalaries[row] = employee.getSalary();
+        int[] newAges = Arrays.copyOf(ages, newSize);
+        newAges[row] = employee.getAge();
+
+        // A replaced row keeps its id and place, and an appended one fits the table until the roster outgrows it
+        int[] newIndex = null;
+        if (existing >= 0) {
+            newIndex = index;
+        } else if (index.length == indexLength(newSize)) {
+            newIndex = index.clone();
+            insert(newIndex, uuid != null ? hash(newIdHigh[row], newIdLow[row]) : hash(employee.getId()), row);
+        }
+        return new CompactRoster(
+                newSize,
+                newIdHigh,
+                newIdLow,
+                newOtherIds,
+                names.with(row, employee.getName()),
+                emails.with(row, employee.getEmail()),
+                newTitles,
+                newTitleCodes,
+                newSalaries,
+                newAges,
+                newIndex);
+    }
+
+    /**
+     * Copies the columns around the removed row. The title dictionary is shared with this roster, even if the removed
+     * row was the last with its title.
+     */
+    @Override
+    public RosterStore without(String id) {
+        int removed = rowOf(id);
+        if (removed < 0) {
+            return this;
+        }
+        // Every row after the removed one moves up, so the index is built again
+        return new CompactRoster(
+                size - 1,
+                withoutRow(idHigh, removed),
+                withoutRow(idLow, removed),
+                otherIds != null ? withoutRow(otherIds, removed) : null,
+                names.without(removed),
+                emails.without(removed),
+                titles,
+                withoutRow(titleCodes, removed),
+                withoutRow(salaries, removed),
+                withoutRow(ages, removed),
+                null);
+    }
+
+    /**
+     * Builds every employee, so this is meant for diagnostics and tests rather than for serving requests.
+     */
+    @Override
+    public Map<String, EmployeeResponseDto> asMap() {
+        Map<String, EmployeeResponseDto> employeesById = new LinkedHashMap<>();
+        for (int row = 0; row < size; row++) {
+            EmployeeResponseDto employee = get(row);
+            employeesById.put(employee.getId(), employee);
+        }
+        return Collections.unmodifiableMap(employeesById);
+    }
+
+    private String id(int row) {
+        String otherId = otherId(row);
+        return otherId != null ? otherId : new UUID(idHigh[row], idLow[row]).toString();
+    }
+
+    private String otherId(int row) {
+        return otherIds != null ? otherIds[row] : null;
+    }
+
+    private int rowOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        UUID uuid = canonicalUuid(id);
+        int mask = index.length - 1;
+        int slot = (uuid != null ? hash(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) : hash(id))
+                & mask;
+        for (; index[slot] != 0; slot = (slot + 1) & mask) {
+            int row = index[slot] - 1;
+            String otherId = otherId(row);
+            boolean matches = uuid != null
+                    ? otherId == null
+                            && idHigh[row] == uuid.getMostSignificantBits()
+                            && idLow[row] == uuid.getLeastSignificantBits()
+                    : id.equals(otherId);
+            if (matches) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private int[] buildIndex() {
+        int[] slots = new int[indexLength(size)];
+        for (int row = 0; row < size; row++) {
+            String otherId = otherId(row);
+            insert(slots, otherId != null ? hash(otherId) : hash(idHigh[row], idLow[row]), row);
+        }
+        return slots;
+    }
+
+    private static int indexLength(int size) {
+        return Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+    }
+
+    private static void insert(int[] slots, int hash, int row) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+
+    private static long[] withoutRow(long[] column, int row) {
+        long[] copy = new long[column.length - 1];
+        System.arraycopy(column, 0, copy, 0, row);
+        System.arraycopy(column, row + 1, copy, row, copy.length - row);
+        return copy;
+    }
+
+    private static int[] withoutRow(int[] column, int row) {
+        int[] copy = new int[column.length - 1];
+        System.arraycopy(column, 0, copy, 0, row);
+        System.arraycopy(column, row + 1, copy, row, copy.length - row);
+        return copy;
+    }
+
+    private static String[] withoutRow(String[] column, int row) {
+        String[] copy = new String[column.length - 1];
+        System.arraycopy(column, 0, copy, 0, row);
+        System.arraycopy(column, row + 1, copy, row, copy.length - row);
+        return copy;
+    }
+
+    private static int hash(long high, long low) {
+        long hash = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int hash(String id) {
+        int hash = id.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    // UUID.fromString also accepts shortened forms, which would not be written back as the same id
+    private static UUID canonicalUuid(String id) {
+        if (id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Appends rows in roster order. The ids added must be distinct.
+     */
+    static final class Builder {
+
+        private int size;
+        private long[] idHigh;
+        private long[] idLow;
+        private String[] otherIds;
+        private final StringColumn.Builder names;
+        private final StringColumn.Builder emails;
+        private final List<String> titles = new ArrayList<>();
+        private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+        private int[] titleCodes;
+        private int[] salaries;
+        private int[] ages;
+
+        Builder(int expectedSize) {
+            int capacity = Math.max(1, expectedSize);
+            this.idHigh = new long[capacity];
+            this.idLow = new long[capacity];
+            this.names = new StringColumn.Builder(capacity, 16);
+            this.emails = new StringColumn.Builder(capacity, 32);
+            this.titleCodes = new int[capacity];
+            this.salaries = new int[capacity];
+            this.ages = new int[capacity];
+        }
+
+        void add(EmployeeResponseDto employee) {
+            Objects.requireNonNull(employee.getId(), "employee id");
+            ensureCapacity();
+            UUID uuid = canonicalUuid(employee.getId());
+            if (uuid != null) {
+                idHigh[size] = uuid.getMostSignificantBits();
+                idLow[size] = uuid.getLeastSignificantBits();
+            } else {
+                setOtherId(employee.getId());
+            }
+            names.add(employee.getName());
+            emails.add(employee.getEmail());
+            titleCodes[size] = titleCode(employee.getTitle());
+            salaries[size] = employee.getSalary();
+            ages[size] = employee.getAge();
+            size++;
+        }
+
+        CompactRoster build() {
+            // The builder is sized exactly for a roster that is already known, so this only copies after a growing load
+            if (idHigh.length != size) {
+                idHigh = Arrays.copyOf(idHigh, size);
+                idLow = Arrays.copyOf(idLow, size);
+                otherIds = otherIds != null ? Arrays.copyOf(otherIds, size) : null;
+                titleCodes = Arrays.copyOf(titleCodes, size);
+                salaries = Arrays.copyOf(salaries, size);
+                ages = Arrays.copyOf(ages, size);
+            }
+            return new CompactRoster(
+                    size,
+                    idHigh,
+                    idLow,
+                    otherIds,
+                    names.build(),
+                    emails.build(),
+                    titles.toArray(String[]::new),
+                    titleCodes,
+                    salaries,
+                    ages,
+                    null);
+        }
+
+        private void setOtherId(String id) {
+            if (otherIds == null) {
+                otherIds = new String[idHigh.length];
+            }
+            otherIds[size] = id;
+        }
+
+        private int titleCode(String title) {
+            if (title == null) {
+                return NO_TITLE;
+            }
+            return titleCodesByTitle.computeIfAbsent(title, key -> {
+                titles.add(key);
+                return titles.size() - 1;
+            });
+        }
+
+        private void ensureCapacity() {
+            if (size < idHigh.length) {
+                return;
+            }
+            int capacity = idHigh.length * 2;
+            idHigh = Arrays.copyOf(idHigh, capacity);
+            idLow = Arrays.copyOf(idLow, capacity);
+            if (otherIds != null) {
+                otherIds = Arrays.copyOf(otherIds, capacity);
+            }
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+        }
+    }
+
+    /**
+     * Appends rows in roster order like {@link Builder}, for rosters whose ids may repeat: the last employee of an id
+     * wins and keeps the row of the first, as in {@link RosterSnapshot#of}. A repeated id is only replaced once the
+     * columns are built, which copies them; the Employee Service does not repeat ids, so that is not expected.
+     */
+    static final class DistinctBuilder {
+
+        private final Builder rows;
+        private final Set<String> ids;
+        private final Map<String, EmployeeResponseDto> repeated = new LinkedHashMap<>();
+
+        DistinctBuilder(int expectedSize) {
+            this.rows = new Builder(expectedSize);
+            this.ids = new HashSet<>((int) (expectedSize / 0.75f) + 1);
+        }
+
+        void put(EmployeeResponseDto employee) {
+            Objects.requireNonNull(employee.getId(), "employee id");
+            if (ids.add(employee.getId())) {
+                rows.add(employee);
+            } else {
+                repeated.put(employee.getId(), employee);
+            }
+        }
+
+        CompactRoster build() {
+            RosterStore roster = rows.build();
+            for (EmployeeResponseDto employee : repeated.values()) {
+                roster = roster.with(employee);
+            }
+            return (CompactRoster) roster;
+        }
+    }
+}
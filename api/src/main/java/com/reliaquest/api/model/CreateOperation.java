@@ -0,0 +1,42 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of an asynchronous employee creation, as reported by {@code GET /employees/operations/{id}}. Immutable, a
+ * change of status replaces the operation.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CreateOperation {
+
+    public enum Status {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String id;
+    private final Status status;
+    private final Instant submittedAt;
+    private final EmployeeResponseDto employee;
+    private final String error;
+
+    public static CreateOperation pending(String id) {
+        return new CreateOperation(id, Status.PENDING, Instant.now(), null, null);
+    }
+
+    public CreateOperation succeeded(EmployeeResponseDto employee) {
+        return new CreateOperation(id, Status.SUCCEEDED, submittedAt, employee, null);
+    }
+
+    public CreateOperation failed(String error) {
+        return new CreateOperation(id, Status.FAILED, submittedAt, null, error);
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
+
+/**
+ * One page of a paged read, with the cursor of the next page, or {@code null} after the last one. A page that is full
+ * may still be followed by an empty one when the read is filtered.
+ */
+public record CursorPage(List<EmployeeResponseDto> content, EmployeeCursor next) {}
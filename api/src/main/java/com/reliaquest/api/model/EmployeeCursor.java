@@ -0,0 +1,71 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.InvalidQueryException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+/**
+ * Where a paged read continues: the sort and the sort value and id of the last employee of the previous page. The
+ * next page starts with the first employee after that position in the current roster, rather than at a row number,
+ * so employees added or removed between two pages neither shift the pages nor repeat or skip the others.
+ *
+ * <p>Sent to clients as an opaque URL-safe string, see {@link #encode()}.
+ */
+public record EmployeeCursor(EmployeeSort sort, String name, int number, String id) {
+
+    // Leads every encoded cursor, so that a cursor of an incompatible later format is rejected rather than misread
+    private static final byte FORMAT = 1;
+
+    /**
+     * The cursor after the employee, keeping only the value the sort orders by.
+     */
+    public static EmployeeCursor after(EmployeeSort sort, EmployeeResponseDto employee) {
+        return switch (sort.key()) {
+            case NAME -> new EmployeeCursor(sort, employee.getName(), 0, employee.getId());
+            case SALARY -> new EmployeeCursor(sort, null, employee.getSalary(), employee.getId());
+            case AGE -> new EmployeeCursor(sort, null, employee.getAge(), employee.getId());
+        };
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            out.writeUTF(sort.toString());
+            out.writeBoolean(name != null);
+            if (name != null) {
+                out.writeUTF(name);
+            }
+            out.writeInt(number);
+            out.writeUTF(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * @throws InvalidQueryException if the cursor was not produced by {@link #encode()}
+     */
+    public static EmployeeCursor decode(String cursor) {
+        try (DataInputStream in =
+                new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != FORMAT) {
+                throw new InvalidQueryException("Invalid cursor");
+            }
+            EmployeeSort sort = EmployeeSort.parse(in.readUTF());
+            String name = in.readBoolean() ? in.readUTF() : null;
+            int number = in.readInt();
+            String id = in.readUTF();
+            return new EmployeeCursor(sort, name, number, id);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidQueryException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of the employees matching a query, as returned by {@code GET /employees/query}.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeePage {
+
+    private final List<EmployeeResponseDto> content;
+
+    // Zero based
+    private final int page;
+
+    private final int size;
+
+    private final long totalElements;
+
+    public int getTotalPages() {
+        return (int) ((totalElements + size - 1) / size);
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.Locale;
+import lombok.Data;
+
+/**
+ * Filter criteria pushed down to the Employee Service as query parameters. Unset fields are omitted from the request.
+ */
+@Data
+public class EmployeeSearchRequest {
+
+    private String nameContains;
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private String title;
+
+    /**
+     * Evaluates the criteria the way the Employee Service does: case-insensitive name fragment and title, inclusive
+     * salary and age bounds.
+     */
+    public boolean matches(EmployeeResponseDto employee) {
+        if (nameContains != null
+                && (employee.getName() == null
+                        || !employee.getName()
+                                .toLowerCase(Locale.ROOT)
+                                .contains(nameContains.toLowerCase(Locale.ROOT)))) {
+            return false;
+        }
+        if (title != null && !title.equalsIgnoreCase(employee.getTitle())) {
+            return false;
+        }
+        return (minSalary == null || employee.getSalary() >= minSalary)
+                && (maxSalary == null || employee.getSalary() <= maxSalary)
+                && (minAge == null || employee.getAge() >= minAge)
+                && (maxAge == null || employee.getAge() <= maxAge);
+    }
+
+    public static EmployeeSearchRequest byName(String nameContains) {
+        EmployeeSearchRequest request = new EmployeeSearchRequest();
+        request.setNameContains(nameContains);
+        return request;
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.exception.InvalidQueryException;
+import java.util.Locale;
+
+/**
+ * Order of a paged read: by name (ignoring case), salary or age, ascending, or descending when written with a leading
+ * {@code -} like {@code -salary}. Employees with the same value are ordered by id, so every employee has exactly one
+ * place in the order.
+ */
+public record EmployeeSort(Key key, boolean descending) {
+
+    public static final EmployeeSort BY_NAME = new EmployeeSort(Key.NAME, false);
+
+    public enum Key {
+        NAME,
+        SALARY,
+        AGE
+    }
+
+    /**
+     * @throws InvalidQueryException if the sort is not a known key with an optional {@code -}
+     */
+    public static EmployeeSort parse(String sort) {
+        String trimmed = sort.trim();
+        boolean descending = trimmed.startsWith("-");
+        String key = descending ? trimmed.substring(1) : trimmed;
+        try {
+            return new EmployeeSort(Key.valueOf(key.toUpperCase(Locale.ROOT)), descending);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidQueryException("sort must be one of name, salary or age, optionally prefixed with -");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (descending ? "-" : "") + key.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+
+/**
+ * An employee suggested for a typed name prefix, with just what a type-ahead shows and needs to look it up.
+ */
+public record EmployeeSuggestion(String id, String name) {
+
+    public static EmployeeSuggestion of(EmployeeResponseDto employee) {
+        return new EmployeeSuggestion(employee.getId(), employee.getName());
+    }
+}
@@ -0,0 +1,256 @@
+package com.reliaquest.api.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Persistent map from employee id to a value, held as a hash array mapped trie. A change copies only the nodes on the
+ * path to the id, at most seven arrays of up to 32 references, and shares every other node with the trie it was made
+ * from. Values must not be null.
+ */
+final class IdTrie<V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Branch EMPTY_BRANCH = new Branch(0, new Object[0]);
+    private static final IdTrie<?> EMPTY = new IdTrie<>(EMPTY_BRANCH, 0);
+
+    // A Branch, a Leaf or a Collision, like every node below it
+    private final Object root;
+    private final int size;
+
+    private IdTrie(Object root, int size) {
+        this.root = root != null ? root : EMPTY_BRANCH;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> IdTrie<V> empty() {
+        return (IdTrie<V>) EMPTY;
+    }
+
+    /**
+     * Builds the trie of the values by their ids in one pass, without the copies of adding them one by one. The ids
+     * must be distinct.
+     */
+    static <V> IdTrie<V> of(List<V> values, Function<V, String> idOf) {
+        Leaf[] leaves = new Leaf[values.size()];
+        for (int i = 0; i < leaves.length; i++) {
+            V value = values.get(i);
+            leaves[i] = new Leaf(idOf.apply(value), value);
+        }
+        Object root = leaves.length == 0 ? EMPTY_BRANCH : build(leaves, new Leaf[leaves.length], 0, leaves.length, 0);
+        return new IdTrie<>(root, leaves.length);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(String id) {
+        int hash = hash(id);
+        Object node = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (node instanceof Leaf leaf) {
+                return leaf.id.equals(id) ? (V) leaf.value : null;
+            }
+            if (node instanceof Collision collision) {
+                int index = collision.indexOf(id);
+                return index < 0 ? null : (V) collision.leaves[index].value;
+            }
+            Branch branch = (Branch) node;
+            int bit = bit(hash, shift);
+            if ((branch.bitmap & bit) == 0) {
+                return null;
+            }
+            node = branch.children[branch.index(bit)];
+        }
+    }
+
+    /**
+     * A copy with the id mapped to the value, whether or not it was present.
+     */
+    IdTrie<V> put(String id, V value) {
+        int added = get(id) == null ? 1 : 0;
+        return new IdTrie<>(put(root, 0, new Leaf(id, value)), size + added);
+    }
+
+    /**
+     * A copy without the id, or this trie if it is not present.
+     */
+    IdTrie<V> remove(String id) {
+        if (get(id) == null) {
+            return this;
+        }
+        return new IdTrie<>(remove(root, 0, hash(id), id), size - 1);
+    }
+
+    private static Object put(Object node, int shift, Leaf leaf) {
+        if (node instanceof Branch branch) {
+            int bit = bit(leaf.hash, shift);
+            int index = branch.index(bit);
+            if ((branch.bitmap & bit) == 0) {
+                return branch.inserted(bit, index, leaf);
+            }
+            return branch.replaced(index, put(branch.children[index], shift + BITS, leaf));
+        }
+        if (node instanceof Leaf existing) {
+            return existing.id.equals(leaf.id) ? leaf : join(existing, leaf, shift);
+        }
+        return ((Collision) node).put(leaf);
+    }
+
+    // Only called for an id that is present
+    private static Object remove(Object node, int shift, int hash, String id) {
+        if (node instanceof Leaf) {
+            return null;
+        }
+        if (node instanceof Collision collision) {
+            return collision.removed(collision.indexOf(id));
+        }
+        Branch branch = (Branch) node;
+        int bit = bit(hash, shift);
+        int index = branch.index(bit);
+        Object child = remove(branch.children[index], shift + BITS, hash, id);
+        if (child == null && branch.children.length == 1) {
+            return null;
+        }
+        Branch changed = child != null ? branch.replaced(index, child) : branch.removed(bit, index);
+        // A lone leaf moves up, so the trie does not keep a path to it that no other id needs
+        return changed.children.length == 1 && changed.children[0] instanceof Leaf ? changed.children[0] : changed;
+    }
+
+    // Two leaves whose hashes agree on the levels above this one. Leaves with the same hash end up in a collision below
+    // the last level, so that a collision only ever holds leaves of one hash.
+    private static Object join(Leaf first, Leaf second, int shift) {
+        if (shift >= Integer.SIZE) {
+            return new Collision(new Leaf[] {first, second});
+        }
+        int firstBit = bit(first.hash, shift);
+        int secondBit = bit(second.hash, shift);
+        if (firstBit == secondBit) {
+            return new Branch(firstBit, new Object[] {join(first, second, shift + BITS)});
+        }
+        Object[] children = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new Branch(firstBit | secondBit, children);
+    }
+
+    // Partitions the leaves between from and to by their bits at this level, in place through the scratch array
+    private static Object build(Leaf[] leaves, Leaf[] scratch, int from, int to, int shift) {
+        if (to - from == 1) {
+            return leaves[from];
+        }
+        if (shift >= Integer.SIZE) {
+            return new Collision(Arrays.copyOfRange(leaves, from, to));
+        }
+        int[] starts = new int[(1 << BITS) + 1];
+        for (int i = from; i < to; i++) {
+            starts[((leaves[i].hash >>> shift) & MASK) + 1]++;
+        }
+        int bitmap = 0;
+        for (int slot = 0; slot < 1 << BITS; slot++) {
+            if (starts[slot + 1] > 0) {
+                bitmap |= 1 << slot;
+            }
+            starts[slot + 1] += starts[slot];
+        }
+        int[] next = starts.clone();
+        for (int i = from; i < to; i++) {
+            scratch[from + next[(leaves[i].hash >>> shift) & MASK]++] = leaves[i];
+        }
+        System.arraycopy(scratch, from, leaves, from, to - from);
+        Object[] children = new Object[Integer.bitCount(bitmap)];
+        int child = 0;
+        for (int slot = 0; slot < 1 << BITS; slot++) {
+            if (starts[slot + 1] > starts[slot]) {
+                children[child++] = build(leaves, scratch, from + starts[slot], from + starts[slot + 1], shift + BITS);
+            }
+        }
+        return new Branch(bitmap, children);
+    }
+
+    private static int hash(String id) {
+        int hash = id.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static final class Leaf {
+
+        private final int hash;
+        private final String id;
+        private final Object value;
+
+        private Leaf(String id, Object value) {
+            this.hash = hash(id);
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    // Children are kept in the order of their bits, only for the bits that are set
+    private record Branch(int bitmap, Object[] children) {
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Branch inserted(int bit, int index, Object child) {
+            Object[] inserted = new Object[children.length + 1];
+            System.arraycopy(children, 0, inserted, 0, index);
+            inserted[index] = child;
+            System.arraycopy(children, index, inserted, index + 1, children.length - index);
+            return new Branch(bitmap | bit, inserted);
+        }
+
+        Branch replaced(int index, Object child) {
+            Object[] replaced = children.clone();
+            replaced[index] = child;
+            return new Branch(bitmap, replaced);
+        }
+
+        Branch removed(int bit, int index) {
+            Object[] removed = new Object[children.length - 1];
+            System.arraycopy(children, 0, removed, 0, index);
+            System.arraycopy(children, index + 1, removed, index, removed.length - index);
+            return new Branch(bitmap & ~bit, removed);
+        }
+    }
+
+    // Leaves whose ids have the same hash
+    private record Collision(Leaf[] leaves) {
+
+        int indexOf(String id) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].id.equals(id)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Collision put(Leaf leaf) {
+            int index = indexOf(leaf.id);
+            Leaf[] changed = index < 0 ? Arrays.copyOf(leaves, leaves.length + 1) : leaves.clone();
+            changed[index < 0 ? leaves.length : index] = leaf;
+            return new Collision(changed);
+        }
+
+        Object removed(int index) {
+            if (leaves.length == 2) {
+                return leaves[1 - index];
+            }
+            Leaf[] removed = new Leaf[leaves.length - 1];
+            System.arraycopy(leaves, 0, removed, 0, index);
+            System.arraycopy(leaves, index + 1, removed, index, removed.length - index);
+            return new Collision(removed);
+        }
+    }
+}
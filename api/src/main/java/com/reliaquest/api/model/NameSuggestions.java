@@ -0,0 +1,175 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Type-ahead over the names of a {@link RosterSnapshot}. Names are normalized (lower case, accents and repeated
+ * spaces removed) and every word of a name starts an entry: "Ada Lovelace" is found as "ada lovelace" and as
+ * "lovelace". The entries are sorted by the name from their word on, so the entries starting with a prefix form one
+ * range, found with a binary search, and the first k of it are the first k completions in alphabetical order. A
+ * suggestion takes O(log n + k), whatever the size of the roster and however many names match.
+ *
+ * <p>Names are kept once per row; an entry is just the row and the offset of its word, packed into a long.
+ */
+final class NameSuggestions {
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    // Runs of entries this short are sorted by insertion rather than merged
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final String[] names;
+    // Row in the high half and offset of the word in the low half, in the order of the name from the word on
+    private final long[] entries;
+
+    NameSuggestions(List<EmployeeResponseDto> roster) {
+        this.names = new String[roster.size()];
+        int entryCount = 0;
+        for (int row = 0; row < names.length; row++) {
+            String name = normalize(roster.get(row).getName());
+            names[row] = name;
+            for (int offset = 0; offset < name.length(); offset++) {
+                if (isWordStart(name, offset)) {
+                    entryCount++;
+                }
+            }
+        }
+        this.entries = new long[entryCount];
+        int entry = 0;
+        for (int row = 0; row < names.length; row++) {
+            for (int offset = 0; offset < names[row].length(); offset++) {
+                if (isWordStart(names[row], offset)) {
+                    entries[entry++] = ((long) row << 32) | offset;
+                }
+            }
+        }
+        // The order compares names, so it cannot be packed into the entries for Arrays.sort
+        mergeSort(entries.clone(), entries, 0, entryCount);
+    }
+
+    /**
+     * The rows of up to {@code k} employees with a word of their name, or the rest of their name from that word on,
+     * starting with the prefix, in alphabetical order of the name from that word on. Every row is returned once.
+     */
+    int[] suggest(String prefix, int k) {
+        String normalizedPrefix = normalize(prefix);
+        int[] rows = new int[k];
+        int count = 0;
+        for (int entry = lowerBound(normalizedPrefix); entry < entries.length && count < k; entry++) {
+            int row = row(entries[entry]);
+            if (!names[row].startsWith(normalizedPrefix, offset(entries[entry]))) {
+                break;
+            }
+            // A name with two words starting with the prefix has two entries, usually next to each other
+            if (!contains(rows, count, row)) {
+                rows[count++] = row;
+            }
+        }
+        return count == k ? rows : Arrays.copyOf(rows, count);
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String withoutAccents = ACCENTS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(withoutAccents.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // First entry whose name from its word on is not below the prefix
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareFrom(names[row(entries[mid])], offset(entries[mid]), prefix, 0) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // By the name from the word on, then by the whole name and the row, so the order does not depend on the sort
+    private int compareEntries(long a, long b) {
+        String nameA = names[row(a)];
+        String nameB = names[row(b)];
+        int byWord = compareFrom(nameA, offset(a), nameB, offset(b));
+        if (byWord != 0) {
+            return byWord;
+        }
+        int byName = nameA.compareTo(nameB);
+        return byName != 0 ? byName : Integer.compare(row(a), row(b));
+    }
+
+    // Sorts the entries of target between from and to, which source holds too, and uses source as scratch space
+    private void mergeSort(long[] source, long[] target, int from, int to) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                long entry = target[i];
+                int j = i;
+                for (; j > from && compareEntries(target[j - 1], entry) > 0; j--) {
+                    target[j] = target[j - 1];
+                }
+                target[j] = entry;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(target, source, from, middle);
+        mergeSort(target, source, middle, to);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right == to || (left < middle && compareEntries(source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    // Compares the strings from the given offsets on without copying them
+    private static int compareFrom(String a, int offsetA, String b, int offsetB) {
+        int lengthA = a.length() - offsetA;
+        int lengthB = b.length() - offsetB;
+        int length = Math.min(lengthA, lengthB);
+        for (int i = 0; i < length; i++) {
+            char charA = a.charAt(offsetA + i);
+            char charB = b.charAt(offsetB + i);
+            if (charA != charB) {
+                return charA - charB;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    private static boolean isWordStart(String name, int offset) {
+        char previous = offset > 0 ? name.charAt(offset - 1) : ' ';
+        return Character.isLetterOrDigit(name.charAt(offset)) && (previous == ' ' || previous == '-');
+    }
+
+    private static boolean contains(int[] rows, int count, int row) {
+        for (int i = 0; i < count; i++) {
+            if (rows[i] == row) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int row(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int offset(long entry) {
+        return (int) entry;
+    }
+}
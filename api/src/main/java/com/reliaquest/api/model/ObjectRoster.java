@@ -0,0 +1,196 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roster store keeping one {@link EmployeeResponseDto} per employee, indexed by id. Lookups return the stored objects
+ * themselves, which must therefore not be modified.
+ *
+ * <p>A change shares everything it does not touch with the store it was made from: ids are looked up in an
+ * {@link IdTrie}, and the roster order is held in chunks of up to {@value #CHUNK_SIZE} rows, so a change copies the
+ * path to its id, the chunk of its row and the table of chunks rather than the whole roster. In exchange
+ * {@link #get(int)} searches the table of chunks for the row.
+ */
+final class ObjectRoster implements RosterStore {
+
+    private static final int CHUNK_SIZE = 256;
+
+    private final IdTrie<Row> rowsById;
+    // Rows in roster order, which is the order of their sequence numbers. No chunk is empty.
+    private final Row[][] chunks;
+    // The index of the first row of each chunk
+    private final int[] chunkStarts;
+    private final int size;
+    private final long nextSequence;
+
+    ObjectRoster(Map<String, EmployeeResponseDto> employeesById) {
+        List<Row> rows = new ArrayList<>(employeesById.size());
+        employeesById.values().forEach(employee -> rows.add(new Row(rows.size(), employee)));
+        int chunkCount = (rows.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunks = new Row[chunkCount][];
+        this.chunkStarts = new int[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int start = chunk * CHUNK_SIZE;
+            chunks[chunk] = rows.subList(start, Math.min(start + CHUNK_SIZE, rows.size()))
+                    .toArray(Row[]::new);
+            chunkStarts[chunk] = start;
+        }
+        this.rowsById = IdTrie.of(rows, row -> row.employee.getId());
+        this.size = rows.size();
+        this.nextSequence = rows.size();
+    }
+
+    private ObjectRoster(IdTrie<Row> rowsById, Row[][] chunks, int[] chunkStarts, long nextSequence) {
+        this.rowsById = rowsById;
+        this.chunks = chunks;
+        this.chunkStarts = chunkStarts;
+        this.size = rowsById.size();
+        this.nextSequence = nextSequence;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public EmployeeResponseDto get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int chunk = Arrays.binarySearch(chunkStarts, index);
+        if (chunk < 0) {
+            chunk = -chunk - 2;
+        }
+        return chunks[chunk][index - chunkStarts[chunk]].employee;
+    }
+
+    @Override
+    public EmployeeResponseDto findById(String id) {
+        Row row = rowsById.get(id);
+        return row == null ? null : row.employee;
+    }
+
+    @Override
+    public RosterStore with(EmployeeResponseDto employee) {
+        Row existing = rowsById.get(employee.getId());
+        if (existing == null) {
+            return appended(new Row(nextSequence, employee));
+        }
+        Row row = new Row(existing.sequence, employee);
+        int chunk = chunkOf(existing.sequence);
+        Row[] changedChunk = chunks[chunk].clone();
+        changedChunk[indexIn(changedChunk, existing.sequence)] = row;
+        Row[][] changedChunks = chunks.clone();
+        changedChunks[chunk] = changedChunk;
+        return new ObjectRoster(rowsById.put(employee.getId(), row), changedChunks, chunkStarts, nextSequence);
+    }
+
+    @Override
+    public RosterStore without(String id) {
+        Row existing = rowsById.get(id);
+        if (existing == null) {
+            return this;
+        }
+        int chunk = chunkOf(existing.sequence);
+        Row[] rows = chunks[chunk];
+        int index = indexIn(rows, existing.sequence);
+        Row[] changedChunk = new Row[rows.length - 1];
+        System.arraycopy(rows, 0, changedChunk, 0, index);
+        System.arraycopy(rows, index + 1, changedChunk, index, changedChunk.length - index);
+
+        // The chunk is joined with the next one while both fit in one, so removals do not leave many small chunks
+        boolean joined = chunk + 1 < chunks.length && changedChunk.length + chunks[chunk + 1].length <= CHUNK_SIZE;
+        if (joined) {
+            Row[] next = chunks[chunk + 1];
+            changedChunk = Arrays.copyOf(changedChunk, changedChunk.length + next.length);
+            System.arraycopy(next, 0, changedChunk, changedChunk.length - next.length, next.length);
+        }
+        int following = joined ? chunk + 2 : chunk + 1;
+        int kept = changedChunk.length > 0 ? chunk + 1 : chunk;
+        Row[][] changedChunks = new Row[kept + chunks.length - following][];
+        int[] changedStarts = new int[changedChunks.length];
+        System.arraycopy(chunks, 0, changedChunks, 0, chunk);
+        System.arraycopy(chunkStarts, 0, changedStarts, 0, kept);
+        if (changedChunk.length > 0) {
+            changedChunks[chunk] = changedChunk;
+        }
+        System.arraycopy(chunks, following, changedChunks, kept, chunks.length - following);
+        for (int from = following; from < chunks.length; from++) {
+            changedStarts[kept + from - following] = chunkStarts[from] - 1;
+        }
+        return new ObjectRoster(rowsById.remove(id), changedChunks, changedStarts, nextSequence);
+    }
+
+    /**
+     * Builds the map of every employee, so this is meant for diagnostics and tests rather than for serving requests.
+     */
+    @Override
+    public Map<String, EmployeeResponseDto> asMap() {
+        Map<String, EmployeeResponseDto> employeesById = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+        for (Row[] rows : chunks) {
+            for (Row row : rows) {
+                employeesById.put(row.employee.getId(), row.employee);
+            }
+        }
+        return Collections.unmodifiableMap(employeesById);
+    }
+
+    private RosterStore appended(Row row) {
+        IdTrie<Row> changedRowsById = rowsById.put(row.employee.getId(), row);
+        int last = chunks.length - 1;
+        if (last >= 0 && chunks[last].length < CHUNK_SIZE) {
+            Row[] changedChunk = Arrays.copyOf(chunks[last], chunks[last].length + 1);
+            changedChunk[changedChunk.length - 1] = row;
+            Row[][] changedChunks = chunks.clone();
+            changedChunks[last] = changedChunk;
+            return new ObjectRoster(changedRowsById, changedChunks, chunkStarts, row.sequence + 1);
+        }
+        Row[][] changedChunks = Arrays.copyOf(chunks, chunks.length + 1);
+        changedChunks[chunks.length] = new Row[] {row};
+        int[] changedStarts = Arrays.copyOf(chunkStarts, chunkStarts.length + 1);
+        changedStarts[chunks.length] = size;
+        return new ObjectRoster(changedRowsById, changedChunks, changedStarts, row.sequence + 1);
+    }
+
+    // The last chunk that starts at or before the sequence number
+    private int chunkOf(long sequence) {
+        int low = 0;
+        int high = chunks.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (chunks[middle][0].sequence <= sequence) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int indexIn(Row[] rows, long sequence) {
+        int low = 0;
+        int high = rows.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long found = rows[middle].sequence;
+            if (found < sequence) {
+                low = middle + 1;
+            } else if (found > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        throw new IllegalStateException("Row " + sequence + " not in its chunk");
+    }
+
+    // Rows are numbered as they are added, so replacing an employee keeps its place
+    private record Row(long sequence, EmployeeResponseDto employee) {}
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+
+/**
+ * A change one replica made to the roster, sent to the other replicas so they apply it to their cached roster instead
+ * of fetching the roster again. An upsert carries the employee, a removal only the id.
+ */
+public record RosterChange(Type type, String id, EmployeeResponseDto employee) {
+
+    public enum Type {
+        UPSERT,
+        REMOVE
+    }
+
+    public static RosterChange upsert(EmployeeResponseDto employee) {
+        return new RosterChange(Type.UPSERT, employee.getId(), employee);
+    }
+
+    public static RosterChange remove(String id) {
+        return new RosterChange(Type.REMOVE, id, null);
+    }
+}
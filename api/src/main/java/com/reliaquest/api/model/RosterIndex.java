@@ -0,0 +1,134 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Secondary indexes over the rows of a {@link RosterSnapshot}: salaries and ages sorted together with their row
+ * numbers, and the rows of every title, matched ignoring case. A range or title predicate is answered with a binary
+ * search or a hash lookup, and the predicates of a query are combined by walking the smallest candidate set and
+ * probing the others by row, so a query takes O(log n + k) for the k rows of its most selective predicate.
+ */
+final class RosterIndex {
+
+    private static final int NO_TITLE = -1;
+
+    private final int size;
+
+    // Columns by row, probed for the predicates that did not produce the candidates
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+
+    private final SortedColumn salaryIndex;
+    private final SortedColumn ageIndex;
+    private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+    private final int[][] rowsByTitle;
+
+    RosterIndex(List<EmployeeResponseDto> roster) {
+        this.size = roster.size();
+        this.salaries = new int[size];
+        this.ages = new int[size];
+        this.titleCodes = new int[size];
+        int[] titleCounts = new int[Math.max(1, size)];
+        for (int row = 0; row < size; row++) {
+            EmployeeResponseDto employee = roster.get(row);
+            salaries[row] = employee.getSalary();
+            ages[row] = employee.getAge();
+            String title = normalize(employee.getTitle());
+            if (title == null) {
+                titleCodes[row] = NO_TITLE;
+            } else {
+                int code = titleCodesByTitle.computeIfAbsent(title, key -> titleCodesByTitle.size());
+                titleCodes[row] = code;
+                titleCounts[code]++;
+            }
+        }
+        this.salaryIndex = new SortedColumn(salaries);
+        this.ageIndex = new SortedColumn(ages);
+        this.rowsByTitle = new int[titleCodesByTitle.size()][];
+        for (int code = 0; code < rowsByTitle.length; code++) {
+            rowsByTitle[code] = new int[titleCounts[code]];
+            titleCounts[code] = 0;
+        }
+        for (int row = 0; row < size; row++) {
+            int code = titleCodes[row];
+            if (code != NO_TITLE) {
+                rowsByTitle[code][titleCounts[code]++] = row;
+            }
+        }
+    }
+
+    /**
+     * The rows matching the salary, age and title criteria, in roster order. The name fragment is not indexed and
+     * left to the caller.
+     */
+    int[] select(EmployeeSearchRequest criteria) {
+        int minSalary = criteria.getMinSalary() != null ? criteria.getMinSalary() : Integer.MIN_VALUE;
+        int maxSalary = criteria.getMaxSalary() != null ? criteria.getMaxSalary() : Integer.MAX_VALUE;
+        int minAge = criteria.getMinAge() != null ? criteria.getMinAge() : Integer.MIN_VALUE;
+        int maxAge = criteria.getMaxAge() != null ? criteria.getMaxAge() : Integer.MAX_VALUE;
+        int titleCode = NO_TITLE;
+        if (criteria.getTitle() != null) {
+            Integer code = titleCodesByTitle.get(normalize(criteria.getTitle()));
+            if (code == null) {
+                return new int[0];
+            }
+            titleCode = code;
+        }
+        if (minSalary > maxSalary || minAge > maxAge) {
+            return new int[0];
+        }
+
+        // The most selective predicate yields the candidates, each as a slice of an array of rows
+        int[] candidates = null;
+        int from = 0;
+        int to = size;
+        if (titleCode != NO_TITLE) {
+            candidates = rowsByTitle[titleCode];
+            to = candidates.length;
+        }
+        if (criteria.getMinSalary() != null || criteria.getMaxSalary() != null) {
+            int salaryFrom = salaryIndex.lowerBound(minSalary);
+            int salaryTo = salaryIndex.upperBound(maxSalary);
+            if (candidates == null || salaryTo - salaryFrom < to - from) {
+                candidates = salaryIndex.rows();
+                from = salaryFrom;
+                to = salaryTo;
+            }
+        }
+        if (criteria.getMinAge() != null || criteria.getMaxAge() != null) {
+            int ageFrom = ageIndex.lowerBound(minAge);
+            int ageTo = ageIndex.upperBound(maxAge);
+            if (candidates == null || ageTo - ageFrom < to - from) {
+                candidates = ageIndex.rows();
+                from = ageFrom;
+                to = ageTo;
+            }
+        }
+
+        int[] matches = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int row = candidates != null ? candidates[i] : i;
+            if (salaries[row] >= minSalary
+                    && salaries[row] <= maxSalary
+                    && ages[row] >= minAge
+                    && ages[row] <= maxAge
+                    && (titleCode == NO_TITLE || titleCodes[row] == titleCode)) {
+                matches[count++] = row;
+            }
+        }
+        // Rows of a range come in value order, the result is in roster order like every other list of this API
+        Arrays.sort(matches, 0, count);
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    private static String normalize(String title) {
+        return title != null ? title.toLowerCase(Locale.ROOT) : null;
+    }
+}
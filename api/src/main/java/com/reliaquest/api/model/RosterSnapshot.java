@@ -0,0 +1,291 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable view of the employee roster as held in the cache. Every change produces a new snapshot, so the JSON form
+ * of the roster can be built once per snapshot and then written to every {@code GET /employees} response as is.
+ * The employees must not be modified once they are part of a snapshot. A {@link #compact()} snapshot builds a new
+ * employee on every read instead of keeping one.
+ *
+ * <p>Each snapshot gets a version from a process-wide sequence, so a later snapshot always has a higher version. It
+ * also keeps when its content was last fetched from the Employee Service; local changes do not make it fresher.
+ *
+ * <p>A roster sent by the Employee Service is decoded into a snapshot directly, see {@link RosterSnapshotDeserializer}.
+ */
+@JsonDeserialize(using = RosterSnapshotDeserializer.class)
+public final class RosterSnapshot extends AbstractList<EmployeeResponseDto> implements RandomAccess {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version = VERSIONS.incrementAndGet();
+    private final RosterStore store;
+    private final Instant fetchedAt;
+
+    // Built lazily and at most a few times under contention, the result is the same whichever thread wins
+    private volatile byte[] json;
+    private volatile byte[] gzippedJson;
+    private volatile RosterIndex index;
+    private volatile NameSuggestions nameSuggestions;
+    private final AtomicReferenceArray<SortedView> sortedViews =
+            new AtomicReferenceArray<>(EmployeeSort.Key.values().length);
+
+    private RosterSnapshot(RosterStore store, Instant fetchedAt) {
+        this.store = store;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Creates a snapshot of employees fetched just now, keeping their order. The last one wins when ids repeat.
+     */
+    public static RosterSnapshot of(Collection<EmployeeResponseDto> employees) {
+        return of(employees, Instant.now());
+    }
+
+    public static RosterSnapshot of(Collection<EmployeeResponseDto> employees, Instant fetchedAt) {
+        Map<String, EmployeeResponseDto> employeesById = new LinkedHashMap<>();
+        employees.forEach(employee -> employeesById.put(employee.getId(), employee));
+        return new RosterSnapshot(new ObjectRoster(employeesById), fetchedAt);
+    }
+
+    /**
+     * Creates a snapshot of employees fetched just now that are already indexed by id, taking ownership of the map.
+     */
+    static RosterSnapshot ofDecoded(Map<String, EmployeeResponseDto> employeesById) {
+        return new RosterSnapshot(new ObjectRoster(employeesById), Instant.now());
+    }
+
+    /**
+     * Creates a compact snapshot of employees fetched just now that were decoded into columns.
+     */
+    static RosterSnapshot ofDecoded(CompactRoster roster) {
+        return new RosterSnapshot(roster, Instant.now());
+    }
+
+    /**
+     * Combines snapshots of disjoint parts of the roster, like those of the shards of the Employee Service, in the
+     * given order. The result is as old as the oldest part, and compact if every part is.
+     */
+    public static RosterSnapshot merge(List<RosterSnapshot> parts) {
+        int size = parts.stream().mapToInt(RosterSnapshot::size).sum();
+        Instant fetchedAt = Instant.now();
+        for (RosterSnapshot part : parts) {
+            if (part.fetchedAt.isBefore(fetchedAt)) {
+                fetchedAt = part.fetchedAt;
+            }
+        }
+        if (!parts.isEmpty() && parts.stream().allMatch(RosterSnapshot::isCompact)) {
+            // Each row is decoded into an employee only to be added to the merged columns
+            CompactRoster.DistinctBuilder rows = new CompactRoster.DistinctBuilder(size);
+            parts.forEach(part -> part.forEach(rows::put));
+            return new RosterSnapshot(rows.build(), fetchedAt);
+        }
+        Map<String, EmployeeResponseDto> employeesById = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+        parts.forEach(part -> part.forEach(employee -> employeesById.put(employee.getId(), employee)));
+        return new RosterSnapshot(new ObjectRoster(employeesById), fetchedAt);
+    }
+
+    public static RosterSnapshot empty() {
+        return new RosterSnapshot(new ObjectRoster(new LinkedHashMap<>()), Instant.now());
+    }
+
+    /**
+     * Returns a copy of this snapshot held in columns rather than as one object per employee, see
+     * {@link CompactRoster}, or this snapshot if it is compact already. Its changes stay compact.
+     */
+    public RosterSnapshot compact() {
+        return store instanceof CompactRoster ? this : new RosterSnapshot(CompactRoster.of(this), fetchedAt);
+    }
+
+    public boolean isCompact() {
+        return store instanceof CompactRoster;
+    }
+
+    /**
+     * Returns a copy of this snapshot with the employee added, or replaced if its id is already present.
+     */
+    public RosterSnapshot with(EmployeeResponseDto employee) {
+        return new RosterSnapshot(store.with(employee), fetchedAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot without the employee, or this snapshot if the id is not present.
+     */
+    public RosterSnapshot without(String id) {
+        RosterStore changed = store.without(id);
+        return changed == store ? this : new RosterSnapshot(changed, fetchedAt);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    public Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+
+    public EmployeeResponseDto findById(String id) {
+        return store.findById(id);
+    }
+
+    public Map<String, EmployeeResponseDto> asMap() {
+        return store.asMap();
+    }
+
+    @Override
+    public EmployeeResponseDto get(int index) {
+        return store.get(index);
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * The employees matching the criteria, in roster order, found through secondary indexes that are built on the
+     * first query of this snapshot. Only the employees that are read from the returned list are built, which matters
+     * for a {@link #compact()} snapshot.
+     */
+    public List<EmployeeResponseDto> select(EmployeeSearchRequest criteria) {
+        RosterIndex rosterIndex = index;
+        if (rosterIndex == null) {
+            rosterIndex = new RosterIndex(this);
+            index = rosterIndex;
+        }
+        int[] rows = rosterIndex.select(criteria);
+        List<EmployeeResponseDto> matches = new SelectedRows(rows);
+        // The name fragment is not indexed, it is checked on the rows the indexed predicates left
+        return criteria.getNameContains() != null
+                ? matches.stream().filter(criteria::matches).toList()
+                : matches;
+    }
+
+    /**
+     * Up to {@code k} employees with a word of their name starting with the prefix, ignoring case and accents, in
+     * alphabetical order of the name from that word on. Answered from a name index built on the first suggestion of
+     * this snapshot.
+     */
+    public List<EmployeeResponseDto> suggest(String prefix, int k) {
+        NameSuggestions suggestions = nameSuggestions;
+        if (suggestions == null) {
+            suggestions = new NameSuggestions(this);
+            nameSuggestions = suggestions;
+        }
+        return new SelectedRows(suggestions.suggest(prefix, k));
+    }
+
+    /**
+     * One page of at most {@code limit} employees accepted by the filter, in the given order, starting after the
+     * cursor or at the start of the order without one. The order is kept in a view built on the first paged read of
+     * this snapshot by that key. A cursor of an earlier snapshot continues at the same place in this one. The view is
+     * read from the cursor until the page is full, so a filter that accepts few employees reads up to the rest of it.
+     */
+    public CursorPage page(
+            EmployeeSort sort, EmployeeCursor after, int limit, Predicate<EmployeeResponseDto> filter) {
+        SortedView view = sortedView(sort.key());
+        int step = sort.descending() ? -1 : 1;
+        int position;
+        if (after == null) {
+            position = sort.descending() ? view.size() - 1 : 0;
+        } else {
+            position = sort.descending() ? view.lastBefore(after) : view.firstAfter(after);
+        }
+        List<EmployeeResponseDto> content = new ArrayList<>(Math.min(limit, size()));
+        for (; position >= 0 && position < view.size() && content.size() < limit; position += step) {
+            EmployeeResponseDto employee = get(view.row(position));
+            if (filter.test(employee)) {
+                content.add(employee);
+            }
+        }
+        boolean more = content.size() == limit && position >= 0 && position < view.size();
+        return new CursorPage(content, more ? EmployeeCursor.after(sort, content.get(limit - 1)) : null);
+    }
+
+    private SortedView sortedView(EmployeeSort.Key key) {
+        SortedView view = sortedViews.get(key.ordinal());
+        if (view == null) {
+            view = new SortedView(this, key);
+            sortedViews.set(key.ordinal(), view);
+        }
+        return view;
+    }
+
+    /**
+     * The roster serialized as a JSON array with the given writer, which must be the same on every call.
+     */
+    public byte[] toJson(ObjectWriter writer) {
+        byte[] bytes = json;
+        if (bytes == null) {
+            try {
+                bytes = writer.writeValueAsBytes(this);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            json = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * The gzip compressed form of {@link #toJson(ObjectWriter)}.
+     */
+    public byte[] toGzippedJson(ObjectWriter writer) {
+        byte[] bytes = gzippedJson;
+        if (bytes == null) {
+            byte[] uncompressed = toJson(writer);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, uncompressed.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(uncompressed);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            bytes = compressed.toByteArray();
+            gzippedJson = bytes;
+        }
+        return bytes;
+    }
+
+    // View of the selected rows, building each employee as it is read
+    private final class SelectedRows extends AbstractList<EmployeeResponseDto> implements RandomAccess {
+
+        private final int[] rows;
+
+        SelectedRows(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public EmployeeResponseDto get(int index) {
+            return store.get(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads the roster sent by the Employee Service straight into a {@link RosterSnapshot}. Every employee is decoded
+ * into the {@link EmployeeResponseDto} the snapshot keeps and indexed by id as soon as it is read, so loading the
+ * roster neither builds a list of {@code EmployeeDto}s nor copies them. Employees without an id are skipped and the
+ * last one wins when ids repeat, as in {@link RosterSnapshot#of}. Works on the token stream, so it reads JSON and
+ * Smile alike.
+ *
+ * <p>With the {@link #COMPACT} attribute set on the reading context, every employee is added to the columns of a
+ * {@link CompactRoster} as soon as it is read instead, so a compact roster is never held as objects in full.
+ */
+public class RosterSnapshotDeserializer extends StdDeserializer<RosterSnapshot> {
+
+    /**
+     * Context attribute that asks for a {@link RosterSnapshot#compact()} roster when {@link Boolean#TRUE}.
+     */
+    public static final String COMPACT = RosterSnapshotDeserializer.class.getName() + ".compact";
+
+    // Sized for a roster of a few thousand, the columns grow beyond that
+    private static final int EXPECTED_COMPACT_SIZE = 1024;
+
+    // Field names of the Employee Service, see EmployeeDto
+    private static final String ID = "id";
+    private static final String NAME = "employee_name";
+    private static final String SALARY = "employee_salary";
+    private static final String AGE = "employee_age";
+    private static final String TITLE = "employee_title";
+    private static final String EMAIL = "employee_email";
+
+    public RosterSnapshotDeserializer() {
+        super(RosterSnapshot.class);
+    }
+
+    @Override
+    public RosterSnapshot deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            return (RosterSnapshot) context.handleUnexpectedToken(RosterSnapshot.class, parser);
+        }
+        boolean compact = Boolean.TRUE.equals(context.getAttribute(COMPACT));
+        CompactRoster.DistinctBuilder rows = compact ? new CompactRoster.DistinctBuilder(EXPECTED_COMPACT_SIZE) : null;
+        Map<String, EmployeeResponseDto> employeesById = compact ? null : new LinkedHashMap<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                return (RosterSnapshot) context.handleUnexpectedToken(EmployeeResponseDto.class, parser);
+            }
+            EmployeeResponseDto employee = readEmployee(parser);
+            if (employee.getId() == null) {
+                continue;
+            }
+            if (compact) {
+                rows.put(employee);
+            } else {
+                employeesById.put(employee.getId(), employee);
+            }
+        }
+        return compact ? RosterSnapshot.ofDecoded(rows.build()) : RosterSnapshot.ofDecoded(employeesById);
+    }
+
+    private static EmployeeResponseDto readEmployee(JsonParser parser) throws IOException {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                // Not part of an employee as this API knows it
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case ID -> employee.setId(parser.getValueAsString());
+                case NAME -> employee.setName(parser.getValueAsString());
+                case SALARY -> employee.setSalary(parser.getValueAsInt());
+                case AGE -> employee.setAge(parser.getValueAsInt());
+                case TITLE -> employee.setTitle(parser.getValueAsString());
+                case EMAIL -> employee.setEmail(parser.getValueAsString());
+                default -> {
+                    // Unknown fields are ignored, as they are for EmployeeDto
+                }
+            }
+        }
+        return employee;
+    }
+}
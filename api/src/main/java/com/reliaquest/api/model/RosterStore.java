@@ -0,0 +1,32 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.Map;
+
+/**
+ * How a {@link RosterSnapshot} holds its employees, in roster order. Stores are immutable: a change returns a new
+ * store and leaves the old one as it was.
+ */
+interface RosterStore {
+
+    int size();
+
+    EmployeeResponseDto get(int index);
+
+    /**
+     * The employee with the id, or null when it is not in the roster.
+     */
+    EmployeeResponseDto findById(String id);
+
+    /**
+     * A copy with the employee added at the end, or replaced in place if its id is already present.
+     */
+    RosterStore with(EmployeeResponseDto employee);
+
+    /**
+     * A copy without the employee, or this store if the id is not present.
+     */
+    RosterStore without(String id);
+
+    Map<String, EmployeeResponseDto> asMap();
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.model;
+
+import java.util.Arrays;
+
+/**
+ * The values of an int column in ascending order, with the row each value belongs to. Rows of the same value are in
+ * ascending order of a rank given for every row, or of their row number without one.
+ */
+final class SortedColumn {
+
+    private final int[] values;
+    private final int[] rows;
+
+    SortedColumn(int[] columnByRow) {
+        this(columnByRow, null);
+    }
+
+    /**
+     * @param rankByRow a distinct rank from 0 to the number of rows for each row, or null to order by row number
+     */
+    SortedColumn(int[] columnByRow, int[] rankByRow) {
+        // Value in the high half and rank in the low half, so a single primitive sort orders both
+        long[] keys = new long[columnByRow.length];
+        for (int row = 0; row < columnByRow.length; row++) {
+            keys[row] = ((long) columnByRow[row] << 32) | (rankByRow != null ? rankByRow[row] : row);
+        }
+        Arrays.sort(keys);
+        int[] rowByRank = null;
+        if (rankByRow != null) {
+            rowByRank = new int[rankByRow.length];
+            for (int row = 0; row < rankByRow.length; row++) {
+                rowByRank[rankByRow[row]] = row;
+            }
+        }
+        this.values = new int[keys.length];
+        this.rows = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = (int) (keys[i] >> 32);
+            rows[i] = rowByRank != null ? rowByRank[(int) keys[i]] : (int) keys[i];
+        }
+    }
+
+    int size() {
+        return rows.length;
+    }
+
+    int row(int position) {
+        return rows[position];
+    }
+
+    // Rows by position, not to be modified
+    int[] rows() {
+        return rows;
+    }
+
+    // First position holding a value of at least min
+    int lowerBound(int min) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First position holding a value above max
+    int upperBound(int max) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= max) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
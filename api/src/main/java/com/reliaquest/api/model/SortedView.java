@@ -0,0 +1,131 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The rows of a {@link RosterSnapshot} in ascending order of one sort key and then of id. Descending reads walk it
+ * backwards. Salaries and ages are ordered as they are, names and ids by their rank among the sorted names and ids, so
+ * the rows themselves take a single primitive sort. A cursor is found by a binary search, so an unfiltered page of k
+ * rows takes O(log n + k) wherever it is in the order.
+ */
+final class SortedView {
+
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+    private static final Comparator<String> ID_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final EmployeeSort.Key key;
+
+    // By row
+    private final String[] ids;
+
+    // The names in order, the rank of a name is the first position it has. Only for the name order
+    private final String[] rankedNames;
+
+    // The salaries, ages or name ranks in order, those of the same value in order of id
+    private final SortedColumn order;
+
+    SortedView(List<EmployeeResponseDto> roster, EmployeeSort.Key key) {
+        this.key = key;
+        int size = roster.size();
+        this.ids = new String[size];
+        String[] names = key == EmployeeSort.Key.NAME ? new String[size] : null;
+        int[] values = new int[size];
+        for (int row = 0; row < size; row++) {
+            EmployeeResponseDto employee = roster.get(row);
+            ids[row] = employee.getId();
+            switch (key) {
+                case NAME -> names[row] = employee.getName();
+                case SALARY -> values[row] = employee.getSalary();
+                case AGE -> values[row] = employee.getAge();
+            }
+        }
+        if (names != null) {
+            this.rankedNames = names.clone();
+            Arrays.sort(rankedNames, NAME_ORDER);
+            for (int row = 0; row < size; row++) {
+                values[row] = rank(rankedNames, names[row], NAME_ORDER);
+            }
+        } else {
+            this.rankedNames = null;
+        }
+        // Ids are unique, so their ranks order the rows of the same value without ties
+        String[] rankedIds = ids.clone();
+        Arrays.sort(rankedIds, ID_ORDER);
+        int[] idRanks = new int[size];
+        for (int row = 0; row < size; row++) {
+            idRanks[row] = rank(rankedIds, ids[row], ID_ORDER);
+        }
+        this.order = new SortedColumn(values, idRanks);
+    }
+
+    int size() {
+        return order.size();
+    }
+
+    int row(int position) {
+        return order.row(position);
+    }
+
+    // First position after the cursor, or the size when none is
+    int firstAfter(EmployeeCursor cursor) {
+        int value = value(cursor);
+        if (!holds(value, cursor)) {
+            return order.lowerBound(value);
+        }
+        return searchId(order.lowerBound(value), order.upperBound(value), cursor.id(), false);
+    }
+
+    // Last position before the cursor, or -1 when none is
+    int lastBefore(EmployeeCursor cursor) {
+        int value = value(cursor);
+        if (!holds(value, cursor)) {
+            return order.lowerBound(value) - 1;
+        }
+        return searchId(order.lowerBound(value), order.upperBound(value), cursor.id(), true) - 1;
+    }
+
+    // The salary or age of the cursor, or the rank its name has or would have
+    private int value(EmployeeCursor cursor) {
+        return key == EmployeeSort.Key.NAME ? rank(rankedNames, cursor.name(), NAME_ORDER) : cursor.number();
+    }
+
+    // Whether rows of the value are those of the cursor's name, rather than of the next name after it
+    private boolean holds(int value, EmployeeCursor cursor) {
+        return key != EmployeeSort.Key.NAME
+                || (value < rankedNames.length && NAME_ORDER.compare(rankedNames[value], cursor.name()) == 0);
+    }
+
+    // First position from the given ones whose id is above the given id, or not below it when inclusive
+    private int searchId(int from, int to, String id, boolean inclusive) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int byId = ID_ORDER.compare(ids[order.row(mid)], id);
+            if (byId < 0 || (byId == 0 && !inclusive)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First position of the value in the sorted values, or the position it would be inserted at
+    private static int rank(String[] sorted, String value, Comparator<String> order) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A column of strings stored back to back as UTF-8 in a single byte array, instead of one {@link String} object per
+ * row. A row is decoded into a new string every time it is read.
+ */
+final class StringColumn {
+
+    private final byte[] bytes;
+
+    // Offset in bytes where each row ends, the next row starts there. Null rows are stored as the bitwise complement.
+    private final int[] ends;
+
+    private StringColumn(byte[] bytes, int[] ends) {
+        this.bytes = bytes;
+        this.ends = ends;
+    }
+
+    String get(int row) {
+        if (ends[row] < 0) {
+            return null;
+        }
+        int start = start(row);
+        return new String(bytes, start, ends[row] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A copy with the row set to the value, or with the value appended when the row is the number of rows. The bytes
+     * of the other rows are copied as they are and only the ends after the row are moved.
+     */
+    StringColumn with(int row, String value) {
+        byte[] encoded = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int start = start(row);
+        int oldEnd = row < ends.length ? end(row) : start;
+        int delta = encoded.length - (oldEnd - start);
+        byte[] copy = new byte[bytes.length + delta];
+        System.arraycopy(bytes, 0, copy, 0, start);
+        System.arraycopy(encoded, 0, copy, start, encoded.length);
+        System.arraycopy(bytes, oldEnd, copy, start + encoded.length, bytes.length - oldEnd);
+        int[] copiedEnds = Arrays.copyOf(ends, Math.max(ends.length, row + 1));
+        copiedEnds[row] = value != null ? start + encoded.length : ~start;
+        for (int next = row + 1; next < ends.length; next++) {
+            copiedEnds[next] = shift(ends[next], delta);
+        }
+        return new StringColumn(copy, copiedEnds);
+    }
+
+    /**
+     * A copy without the row, the rows after it move up by one.
+     */
+    StringColumn without(int row) {
+        int start = start(row);
+        int end = end(row);
+        byte[] copy = new byte[bytes.length - (end - start)];
+        System.arraycopy(bytes, 0, copy, 0, start);
+        System.arraycopy(bytes, end, copy, start, bytes.length - end);
+        int[] copiedEnds = new int[ends.length - 1];
+        System.arraycopy(ends, 0, copiedEnds, 0, row);
+        for (int next = row + 1; next < ends.length; next++) {
+            copiedEnds[next - 1] = shift(ends[next], start - end);
+        }
+        return new StringColumn(copy, copiedEnds);
+    }
+
+    private int start(int row) {
+        return row == 0 ? 0 : end(row - 1);
+    }
+
+    private int end(int row) {
+        int end = ends[row];
+        return end < 0 ? ~end : end;
+    }
+
+    // Moves an end by the given number of bytes, keeping the mark of a null row
+    private static int shift(int end, int delta) {
+        return end < 0 ? ~(~end + delta) : end + delta;
+    }
+
+    static final class Builder {
+
+        private byte[] bytes;
+        private int[] ends;
+        private int length;
+        private int rows;
+
+        Builder(int expectedRows, int expectedBytesPerRow) {
+            this.bytes = new byte[Math.max(16, expectedRows * expectedBytesPerRow)];
+            this.ends = new int[Math.max(1, expectedRows)];
+        }
+
+        void add(String value) {
+            if (value == null) {
+                addNull();
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            append(encoded, 0, encoded.length);
+        }
+
+        private void addNull() {
+            ensureRowCapacity();
+            ends[rows++] = ~length;
+        }
+
+        private void append(byte[] source, int offset, int count) {
+            ensureRowCapacity();
+            if (length + count > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + count, bytes.length * 2));
+            }
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+            ends[rows++] = length;
+        }
+
+        private void ensureRowCapacity() {
+            if (rows == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+        }
+
+        StringColumn build() {
+            return new StringColumn(Arrays.copyOf(bytes, length), Arrays.copyOf(ends, rows));
+        }
+    }
+}
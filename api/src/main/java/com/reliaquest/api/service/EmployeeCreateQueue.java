@@ -0,0 +1,195 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.config.EmployeeCreateQueueProperties;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.CreateQueueFullException;
+import com.reliaquest.api.model.CreateOperation;
+import com.reliaquest.api.model.EmployeeRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Write-behind employee creation: creates are accepted into a bounded in-memory queue and sent to the Employee Service
+ * by a single background worker, in bursts of a configured size with a pause in between so that the downstream rate
+ * limit is not exceeded by a spike of creates. The outcome of each create is kept for polling.
+ *
+ * <p>The queue is not persisted, creates still waiting when the application stops are lost.
+ */
+@Service
+@Slf4j
+public class EmployeeCreateQueue {
+
+    private final EmployeeDataService employeeDataService;
+    private final EmployeeCreateQueueProperties properties;
+    private final BlockingDeque<PendingCreate> queue;
+    private final Cache<String, CreateOperation> operations;
+    // Operation ids by the Idempotency-Key they were submitted with
+    private final Cache<String, String> operationIdsByKey;
+    private final Counter createsSucceeded;
+    private final Counter createsFailed;
+    private final Counter createsRejected;
+
+    private ScheduledExecutorService worker;
+
+    public EmployeeCreateQueue(
+            EmployeeDataService employeeDataService,
+            EmployeeCreateQueueProperties properties,
+            MeterRegistry meterRegistry) {
+        this.employeeDataService = employeeDataService;
+        this.properties = properties;
+        this.queue = new LinkedBlockingDeque<>(properties.getCapacity());
+        this.operations = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getOperationRetention())
+                .build();
+        this.operationIdsByKey = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getOperationRetention())
+                .build();
+        Gauge.builder("employee.create.queue.size", queue, BlockingDeque::size)
+                .description("Creates waiting to be sent to the Employee Service")
+                .register(meterRegistry);
+        this.createsSucceeded = outcomeCounter(meterRegistry, "succeeded");
+        this.createsFailed = outcomeCounter(meterRegistry, "failed");
+        this.createsRejected = outcomeCounter(meterRegistry, "rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-create-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getBurstInterval().toMillis();
+        worker.scheduleWithFixedDelay(this::drainBurst, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Stopping with {} creates still queued, they are not sent to the Employee Service", queue.size());
+        }
+    }
+
+    /**
+     * Queues a validated create and returns its pending operation. A create repeated with the idempotency key of an
+     * operation that is still retained returns that operation instead of queueing another create.
+     *
+     * @throws CreateQueueFullException if the queue is at capacity
+     */
+    public CreateOperation submit(EmployeeRequest employeeRequest, String idempotencyKey) {
+        CreateOperation operation = CreateOperation.pending(UUID.randomUUID().toString());
+        operations.put(operation.getId(), operation);
+        // Without a key from the client, the operation id is sent downstream so that the worker's retries stay safe
+        String downstreamKey = operation.getId();
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            String existingId = operationIdsByKey.asMap().putIfAbsent(idempotencyKey, operation.getId());
+            CreateOperation existing = existingId != null ? operations.getIfPresent(existingId) : null;
+            if (existing != null) {
+                operations.invalidate(operation.getId());
+                log.info("Create with idempotency key {} already queued as operation {}", idempotencyKey, existingId);
+                return existing;
+            }
+            operationIdsByKey.put(idempotencyKey, operation.getId());
+            downstreamKey = idempotencyKey;
+        }
+        if (!queue.offerLast(new PendingCreate(operation.getId(), employeeRequest, downstreamKey, 0))) {
+            operations.invalidate(operation.getId());
+            operationIdsByKey.asMap().remove(downstreamKey, operation.getId());
+            createsRejected.increment();
+            throw new CreateQueueFullException("Too many employees waiting to be created, please retry later");
+        }
+        log.info(
+                "Queued creation of employee with name: {} as operation {}",
+                employeeRequest.getName(),
+                operation.getId());
+        return operation;
+    }
+
+    public Optional<CreateOperation> getOperation(String id) {
+        return Optional.ofNullable(operations.getIfPresent(id));
+    }
+
+    /**
+     * Sends up to one burst of queued creates. A create that failed because the Employee Service is unavailable goes
+     * back to the head of the queue and ends the burst, so the next attempt waits for the next burst.
+     */
+    void drainBurst() {
+        try {
+            for (int sent = 0; sent < properties.getBurstSize(); sent++) {
+                PendingCreate pending = queue.pollFirst();
+                if (pending == null || !send(pending)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Never let an exception escape, it would cancel the scheduled worker
+            log.error("Unexpected error while draining the create queue", e);
+        }
+    }
+
+    // Returns false when the Employee Service is unavailable and the burst should end
+    private boolean send(PendingCreate pending) {
+        try {
+            EmployeeResponseDto created =
+                    employeeDataService.createEmployee(pending.request(), pending.idempotencyKey());
+            if (created == null) {
+                fail(pending, "Employee Service did not return the created employee");
+            } else {
+                complete(pending, operation -> operation.succeeded(created));
+                createsSucceeded.increment();
+            }
+            return true;
+        } catch (RuntimeException e) {
+            if (EmployeeDataService.isUnavailable(e) && pending.attempts() + 1 < properties.getMaxAttempts()) {
+                log.warn("Employee Service unavailable ({}), requeueing operation {}", e.toString(), pending.id());
+                if (!queue.offerFirst(pending.retried())) {
+                    fail(pending, "Employee Service unavailable and the create queue is full");
+                }
+                return false;
+            }
+            log.error("Creation of employee failed for operation {}: {}", pending.id(), e.toString());
+            fail(pending, e.getMessage());
+            return true;
+        }
+    }
+
+    private void fail(PendingCreate pending, String error) {
+        complete(pending, operation -> operation.failed(error));
+        createsFailed.increment();
+    }
+
+    private void complete(PendingCreate pending, UnaryOperator<CreateOperation> change) {
+        operations.asMap().computeIfPresent(pending.id(), (id, operation) -> change.apply(operation));
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.create.operations")
+                .description("Asynchronous creates by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record PendingCreate(String id, EmployeeRequest request, String idempotencyKey, int attempts) {
+        PendingCreate retried() {
+            return new PendingCreate(id, request, idempotencyKey, attempts + 1);
+        }
+    }
+}
@@ -3,21 +3,51 @@ package com.reliaquest.api.service;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeHedgingProperties;
 import com.reliaquest.api.constants.AppConstants;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.NonRetryableFeignException;
+import com.reliaquest.api.exception.RetryableFeignException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.RosterChange;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.coherence.RosterChangeBus;
+import com.reliaquest.api.service.helper.RequestHedger;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @Slf4j
@@ -29,112 +59,483 @@ public class EmployeeDataService {
 
     private final EmployeeClient employeeClient;
 
-    public EmployeeDataService(EmployeeClient employeeClient) {
+    // Single cache instance storing the immutable roster snapshot, replaced on every change
+    private final Cache<String, RosterSnapshot> cache;
+
+    // Negative cache: ids the Employee Service answered with 404, kept for a short time only
+    private final Cache<String, Boolean> missingIds;
+
+    // Lookups of single employees that miss the cache, hedged when enabled
+    private final RequestHedger lookupHedger;
+
+    // Time spent fetching the roster from the Employee Service on a cache miss, each retry attempt is a sample
+    private final Timer rosterLoadTimer;
+
+    // Bounds the reads waiting on the Employee Service. Taken only around the calls to it, so that reads answered from
+    // the cache never queue behind or are rejected for slow downstream calls.
+    private final io.github.resilience4j.bulkhead.Bulkhead readBulkhead;
+
+    // Carries the creates and deletes made through this replica to the other replicas, and theirs to this one
+    private final RosterChangeBus changeBus;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<RosterChange.Type, Counter> peerChanges = new EnumMap<>(RosterChange.Type.class);
+
+    // Registered on the first stale read of each operation and cause, keyed by both
+    private final Map<String, Counter> staleReads = new ConcurrentHashMap<>();
+
+    private final Duration maxStaleness;
+    private final boolean compactRoster;
+
+    // Outlives the cache entry so that reads can fall back to it while the Employee Service is unavailable. Only a
+    // fetched roster, and the changes made to it since, become the last good roster: a cache seeded by a single
+    // lookup or create would not be the whole roster.
+    private volatile RosterSnapshot lastGoodRoster;
+
+    // Whether the last good roster was fetched by this instance. One restored from a file is not until it is fetched
+    // again: employees may have been created since it was written, so a miss on it proves nothing.
+    private volatile boolean lastGoodRosterFetched;
+
+    public EmployeeDataService(
+            EmployeeClient employeeClient,
+            MeterRegistry meterRegistry,
+            EmployeeCacheProperties cacheProperties,
+            EmployeeHedgingProperties hedgingProperties,
+            BulkheadRegistry bulkheadRegistry,
+            RosterChangeBus changeBus) {
         this.employeeClient = employeeClient;
+        this.readBulkhead = bulkheadRegistry.bulkhead("employeeRead");
+        this.changeBus = changeBus;
+        this.meterRegistry = meterRegistry;
+        this.maxStaleness = cacheProperties.getMaxStaleness();
+        this.compactRoster = cacheProperties.isCompactRoster();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1) // Only store one entry with key "all"
+                .expireAfterWrite(cacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, AppConstants.EMPLOYEE_CACHE_NAME);
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMissingIdMaximumSize())
+                .expireAfterWrite(cacheProperties.getMissingIdTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, missingIds, AppConstants.MISSING_EMPLOYEE_CACHE_NAME);
+        this.lookupHedger = new RequestHedger(hedgingProperties, meterRegistry);
+        Gauge.builder("employee.roster.size", cache, EmployeeDataService::cachedRosterSize)
+                .description("Number of employees held in the roster cache")
+                .register(meterRegistry);
+        Gauge.builder("employee.roster.age", this, EmployeeDataService::lastGoodRosterAgeSeconds)
+                .description("Seconds since the last good roster was fetched from the Employee Service")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.rosterLoadTimer = Timer.builder("employee.roster.load")
+                .description("Time taken to fetch the roster from the Employee Service")
+                .register(meterRegistry);
+        for (RosterChange.Type type : RosterChange.Type.values()) {
+            peerChanges.put(
+                    type,
+                    Counter.builder("employee.roster.peer.changes")
+                            .description("Roster changes made by other replicas and applied to the cached roster")
+                            .tag("type", type.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void subscribeToPeers() {
+        changeBus.subscribe(this::applyPeerChange);
     }
 
-    // Single cache instance storing Map<String (employeeId), EmployeeDto>
-    private final Cache<String, Map<String, EmployeeResponseDto>> cache = Caffeine.newBuilder()
-            .maximumSize(1)
-            .expireAfterWrite(10, TimeUnit.MINUTES) // Only store one entry with key "all"
-            .build();
+    @PreDestroy
+    public void shutdown() {
+        lookupHedger.shutdown();
+    }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService")
-    public List<EmployeeResponseDto> getAllEmployees() {
-        Map<String, EmployeeResponseDto> cachedMap = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
-        if (cachedMap != null) {
+    @Retry(name = "employeeRead", fallbackMethod = "getAllEmployeesFromStaleRoster")
+    @CircuitBreaker(name = "employeeRead")
+    public RosterSnapshot getAllEmployees() {
+        RosterSnapshot cachedRoster = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        if (cachedRoster != null) {
             log.info("Returning employees from cache");
-            return cachedMap.values().stream().toList();
+            return cachedRoster;
         }
+        return loadRoster();
+    }
 
+    /**
+     * Fetches the roster from the Employee Service even when one is cached, and caches it. Used to revalidate a roster
+     * restored at startup.
+     */
+    @Retry(name = "employeeRead")
+    @CircuitBreaker(name = "employeeRead")
+    public RosterSnapshot refreshRoster() {
+        return loadRoster();
+    }
+
+    private RosterSnapshot loadRoster() {
         log.info("Fetching employees from Employee Service");
-        ApiResponse<List<EmployeeDto>> response = employeeClient.getAllEmployees();
+        ApiResponse<RosterSnapshot> response =
+                readBulkhead.executeSupplier(() -> rosterLoadTimer.record(employeeClient::getAllEmployees));
+        RosterSnapshot roster = response.getData();
+        if (roster == null) {
+            roster = RosterSnapshot.empty();
+        }
+        if (compactRoster) {
+            // Decoded compact already, see FeignConfig, unless there was no roster
+            roster = roster.compact();
+        }
+        log.info("Fetched {} employees, updating cache", roster.size());
+        cache.put(AppConstants.CACHE_KEY_ALL, roster);
+        lastGoodRoster = roster;
+        lastGoodRosterFetched = true;
+        log.debug("Cache updated"); // populate the cache
+        return roster;
+    }
+
+    /**
+     * The roster last fetched from the Employee Service with the changes made since, or empty before the first fetch.
+     */
+    public Optional<RosterSnapshot> getLastGoodRoster() {
+        return Optional.ofNullable(lastGoodRoster);
+    }
+
+    /**
+     * Warm start: caches a roster kept from an earlier run, as the last good roster, unless a roster was fetched in
+     * the meantime. A roster older than the max staleness is not restored. Keeps the time the roster was fetched, so
+     * its age shows how old the data is rather than when it was restored. A restored roster does not rule out an
+     * employee until it has been fetched again.
+     *
+     * @return whether the roster was restored
+     */
+    public boolean restoreRoster(RosterSnapshot roster) {
+        if (roster.age().compareTo(maxStaleness) > 0) {
+            log.info("Not restoring a roster fetched {} ago, older than the max staleness", roster.age());
+            return false;
+        }
+        RosterSnapshot restored = compactRoster ? roster.compact() : roster;
+        boolean[] applied = {false};
+        cache.asMap().computeIfAbsent(AppConstants.CACHE_KEY_ALL, key -> {
+            lastGoodRoster = restored;
+            lastGoodRosterFetched = false;
+            applied[0] = true;
+            return restored;
+        });
+        return applied[0];
+    }
+
+    /**
+     * Drops a restored roster that could not be fetched again from the cache, so that it is not served as fresh until
+     * it expires. Reads then ask the Employee Service, and fall back to the restored roster, flagged with its age, only
+     * while that is unavailable.
+     */
+    public void expireRestoredRoster() {
+        cache.asMap()
+                .computeIfPresent(AppConstants.CACHE_KEY_ALL, (key, cached) -> lastGoodRosterFetched ? cached : null);
+    }
+
+    /**
+     * Returns the cached employees without calling the Employee Service, or empty when the cache is cold.
+     */
+    public Optional<RosterSnapshot> getCachedEmployees() {
+        return Optional.ofNullable(cache.getIfPresent(AppConstants.CACHE_KEY_ALL));
+    }
+
+    /**
+     * Evaluates the criteria against the indexes of the cached roster without calling the Employee Service, or empty
+     * when the cache is cold. Employees are built only as they are read from the result.
+     */
+    public Optional<List<EmployeeResponseDto>> queryCachedEmployees(EmployeeSearchRequest criteria) {
+        return Optional.ofNullable(cache.getIfPresent(AppConstants.CACHE_KEY_ALL))
+                .map(roster -> roster.select(criteria));
+    }
+
+    /**
+     * Version of the cached roster, or empty when the cache is cold. Does not count as a cache access.
+     */
+    public OptionalLong getCachedRosterVersion() {
+        RosterSnapshot roster = cache.asMap().get(AppConstants.CACHE_KEY_ALL);
+        return roster != null ? OptionalLong.of(roster.version()) : OptionalLong.empty();
+    }
+
+    /**
+     * Whether the employee is on the cached roster, so that a lookup of it is answered without the Employee Service.
+     * Does not count as a cache access.
+     */
+    public boolean isCachedEmployee(String id) {
+        RosterSnapshot roster = cache.asMap().get(AppConstants.CACHE_KEY_ALL);
+        return roster != null && roster.findById(id) != null;
+    }
+
+    /**
+     * Lets the Employee Service evaluate the criteria so that only the matching employees are transferred.
+     * The result is a partial view of the roster and is therefore not cached.
+     */
+    @Retry(name = "employeeRead", fallbackMethod = "searchEmployeesInStaleRoster")
+    @CircuitBreaker(name = "employeeRead")
+    @Bulkhead(name = "employeeRead")
+    public List<EmployeeResponseDto> searchEmployees(EmployeeSearchRequest criteria) {
+        log.info("Searching employees in Employee Service with criteria: {}", criteria);
+        ApiResponse<List<EmployeeDto>> response = employeeClient.searchEmployees(criteria);
         List<EmployeeDto> employees = response.getData();
         if (employees == null) {
-            employees = new ArrayList<>();
+            return new ArrayList<>();
         }
-        log.info("Fetched {} employees", employees.size());
-        Map<String, EmployeeResponseDto> employeeMap = employees.stream()
+        log.info("Employee Service returned {} matching employees", employees.size());
+        return employees.stream()
                 .filter(e -> e.getId() != null)
                 .map(this::toResponse)
-                .collect(Collectors.toConcurrentMap(EmployeeResponseDto::getId, e -> e));
-        log.info("updating cache with {} employees", employeeMap.size());
-        cache.put(AppConstants.CACHE_KEY_ALL, employeeMap);
-        log.debug("Cache updated"); // populate the cache
-        return new ArrayList<>(employeeMap.values());
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Asks the Employee Service for the highest salary instead of transferring the roster to compute it.
+     */
+    @Retry(name = "employeeRead", fallbackMethod = "getHighestSalaryFromStaleRoster")
+    @CircuitBreaker(name = "employeeRead")
+    @Bulkhead(name = "employeeRead")
+    public OptionalInt getHighestSalary() {
+        log.info("Fetching highest salary from Employee Service");
+        Integer maxSalary = employeeClient.getMaxSalary().getData();
+        return maxSalary != null ? OptionalInt.of(maxSalary) : OptionalInt.empty();
+    }
+
+    /**
+     * Asks the Employee Service for its top earners, ordered by descending salary.
+     */
+    @Retry(name = "employeeRead", fallbackMethod = "getTopEarnersFromStaleRoster")
+    @CircuitBreaker(name = "employeeRead")
+    @Bulkhead(name = "employeeRead")
+    public List<EmployeeResponseDto> getTopEarners(int limit) {
+        log.info("Fetching top {} earners from Employee Service", limit);
+        ApiResponse<List<EmployeeDto>> response = employeeClient.getTopEmployees(AppConstants.RANK_BY_SALARY, limit);
+        List<EmployeeDto> employees = response.getData();
+        if (employees == null) {
+            return new ArrayList<>();
+        }
+        return employees.stream().map(this::toResponse).collect(Collectors.toList());
     }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService")
+    @Retry(name = "employeeRead", fallbackMethod = "getEmployeeByIdFromStaleRoster")
+    @CircuitBreaker(name = "employeeRead")
     public EmployeeResponseDto getEmployeeById(String id) {
         log.info("Getting employee by ID: {}", id);
-        Map<String, EmployeeResponseDto> employeeMap = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        RosterSnapshot roster = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
 
-        if (employeeMap != null && employeeMap.containsKey(id)) {
+        // Looked up once, a compact roster builds a new employee on every lookup
+        EmployeeResponseDto cached = roster != null ? roster.findById(id) : null;
+        if (cached != null) {
             log.info("Returning employee from cache for ID: {}", id);
-            return employeeMap.get(id);
+            return cached;
+        }
+        if (roster != null && roster == lastGoodRoster && lastGoodRosterFetched && !changeBus.hasPeers()) {
+            // A fetched, complete roster knows every employee when no other replica changes the Employee Service. The
+            // changes of peers may be lost on the way, so with peers a miss is looked up.
+            log.info("Employee ID: {} not on the cached roster", id);
+            throw notFound(id);
+        }
+        if (missingIds.getIfPresent(id) != null) {
+            log.info("Employee ID: {} recently reported as not found", id);
+            throw notFound(id);
         }
 
         log.info("Fetching employee by ID from Employee Service: {}", id);
-        ApiResponse<EmployeeDto> response = employeeClient.getEmployeeById(id);
+        ApiResponse<EmployeeDto> response;
+        try {
+            response = readBulkhead.executeSupplier(() -> lookupHedger.call(() -> employeeClient.getEmployeeById(id)));
+        } catch (NonRetryableFeignException e) {
+            if (e.getStatus() == HttpStatus.NOT_FOUND.value()) {
+                missingIds.put(id, Boolean.TRUE);
+            }
+            throw e;
+        }
         EmployeeDto employee = response.getData();
         EmployeeResponseDto employeeResponseDto = null;
         if (employee != null) {
-            employeeResponseDto = toResponse(employee);
-            if (employeeMap == null) {
-                log.info("No entry in cache, creating new map");
-                employeeMap = new ConcurrentHashMap<>();
-            }
+            EmployeeResponseDto fetchedEmployee = toResponse(employee);
             log.info("Updating cache with employee ID: {}", id);
-            employeeMap.put(id, employeeResponseDto);
-            cache.put(AppConstants.CACHE_KEY_ALL, employeeMap);
+            updateCachedRoster(cached -> cached.with(fetchedEmployee), true);
+            employeeResponseDto = fetchedEmployee;
             log.debug("Entry for EmployeeId : {} added to cache", id);
         }
         return employeeResponseDto;
     }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService")
-    public EmployeeResponseDto createEmployee(EmployeeRequest employeeInput) {
+    /**
+     * Creates the employee in the Employee Service. The idempotency key is chosen by the caller, as the retry repeats
+     * this method and every attempt has to send the same key.
+     */
+    @Retry(name = "employeeCreate")
+    @CircuitBreaker(name = "employeeCreate")
+    @Bulkhead(name = "employeeCreate")
+    public EmployeeResponseDto createEmployee(EmployeeRequest employeeInput, String idempotencyKey) {
         log.info("Creating employee with name: {}", employeeInput.getName());
-        ApiResponse<EmployeeDto> response = employeeClient.createEmployee(employeeInput);
+        ApiResponse<EmployeeDto> response = employeeClient.createEmployee(employeeInput, idempotencyKey);
         EmployeeDto createdEmployee = response.getData();
         EmployeeResponseDto employeeResponseDto = null;
         if (createdEmployee != null) {
-            employeeResponseDto = toResponse(createdEmployee);
-            Map<String, EmployeeResponseDto> employeeMap = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
-            if (employeeMap == null) {
-                log.info("Cache empty, creating new map");
-                employeeMap = new ConcurrentHashMap<>();
-            }
-            employeeMap.put(createdEmployee.getId(), employeeResponseDto);
-            cache.put(AppConstants.CACHE_KEY_ALL, employeeMap);
+            EmployeeResponseDto createdResponse = toResponse(createdEmployee);
+            missingIds.invalidate(createdEmployee.getId());
+            updateCachedRoster(cached -> cached.with(createdResponse), true);
+            changeBus.publish(RosterChange.upsert(createdResponse));
+            employeeResponseDto = createdResponse;
             log.debug("Employee with ID: {} added to cache", createdEmployee.getId());
         }
 
         return employeeResponseDto;
     }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService")
+    @Retry(name = "employeeDelete")
+    @CircuitBreaker(name = "employeeDelete")
+    @Bulkhead(name = "employeeDelete")
     public boolean deleteEmployeeByName(EmployeeRequest employeeRequest, String id) {
         log.info("Deleting employee by name: {}", employeeRequest.getName());
         ApiResponse<Boolean> response = employeeClient.deleteEmployeeByName(employeeRequest);
         boolean deleted = response.getData() != null && response.getData();
         if (deleted) {
-            Map<String, EmployeeResponseDto> employeeMap = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
-            if (employeeMap != null) {
-                log.info("Updating cache after deletion of employee with ID: {}", id);
-                // Remove employees with matching id and update cache
-                employeeMap.values().removeIf(emp -> id.equals(emp.getId()));
-                cache.put(AppConstants.CACHE_KEY_ALL, employeeMap);
-                log.debug("Employee with ID: {} removed from cache", id);
-            }
+            log.info("Updating cache after deletion of employee with ID: {}", id);
+            updateCachedRoster(cached -> cached.without(id), false);
+            changeBus.publish(RosterChange.remove(id));
+            log.debug("Employee with ID: {} removed from cache", id);
         }
         return deleted;
     }
 
+    /**
+     * Applies a create or delete made through another replica to the cached roster, so this replica serves it without
+     * fetching the roster again. A cold cache stays cold: the next fetch brings the change anyway.
+     */
+    void applyPeerChange(RosterChange change) {
+        log.debug("Applying {} of employee ID: {} made by a peer", change.type(), change.id());
+        if (change.type() == RosterChange.Type.UPSERT) {
+            missingIds.invalidate(change.id());
+            updateCachedRoster(cached -> cached.with(change.employee()), false);
+        } else {
+            updateCachedRoster(cached -> cached.without(change.id()), false);
+        }
+        peerChanges.get(change.type()).increment();
+    }
+
+    /**
+     * Replaces the cached roster with a changed copy. Concurrent changes are applied one after the other, so none of
+     * them is lost. A cold cache is only seeded when {@code createIfAbsent} is set.
+     */
+    private void updateCachedRoster(UnaryOperator<RosterSnapshot> change, boolean createIfAbsent) {
+        cache.asMap().compute(AppConstants.CACHE_KEY_ALL, (key, cached) -> {
+            RosterSnapshot lastGood = lastGoodRoster;
+            RosterSnapshot updated = null;
+            if (cached != null) {
+                updated = change.apply(cached);
+            } else if (createIfAbsent) {
+                log.info("Cache empty, creating new roster");
+                updated = change.apply(RosterSnapshot.empty());
+            }
+            if (lastGood != null) {
+                lastGoodRoster = lastGood == cached ? updated : change.apply(lastGood);
+            }
+            return updated;
+        });
+    }
+
+    RosterSnapshot getAllEmployeesFromStaleRoster(Throwable cause) throws Throwable {
+        return staleRosterOrThrow("getAllEmployees", cause);
+    }
+
+    List<EmployeeResponseDto> searchEmployeesInStaleRoster(EmployeeSearchRequest criteria, Throwable cause)
+            throws Throwable {
+        return staleRosterOrThrow("searchEmployees", cause).stream()
+                .filter(criteria::matches)
+                .collect(Collectors.toList());
+    }
+
+    OptionalInt getHighestSalaryFromStaleRoster(Throwable cause) throws Throwable {
+        return staleRosterOrThrow("getHighestSalary", cause).stream()
+                .mapToInt(EmployeeResponseDto::getSalary)
+                .max();
+    }
+
+    List<EmployeeResponseDto> getTopEarnersFromStaleRoster(int limit, Throwable cause) throws Throwable {
+        return staleRosterOrThrow("getTopEarners", cause).stream()
+                .sorted(Comparator.comparingInt(EmployeeResponseDto::getSalary).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // Answered like the 404 of the Employee Service, so that the response does not tell where the miss came from
+    private static NonRetryableFeignException notFound(String id) {
+        return new NonRetryableFeignException("Employee not found: " + id, HttpStatus.NOT_FOUND.value());
+    }
+
+    // An id missing from the stale roster may have been created since, so that is still reported as the failure
+    EmployeeResponseDto getEmployeeByIdFromStaleRoster(String id, Throwable cause) throws Throwable {
+        RosterSnapshot roster = lastGoodRoster;
+        if (roster == null || roster.findById(id) == null) {
+            throw cause;
+        }
+        return staleRosterOrThrow("getEmployeeById", cause).findById(id);
+    }
+
+    /**
+     * Degraded mode: returns the last good roster when the call failed because the Employee Service is unavailable
+     * (circuit breaker open, read bulkhead full or retries exhausted) and the roster is not older than the configured
+     * max staleness. Any other failure is rethrown as is. Stale reads are counted and flagged on the current request
+     * so that the response can say how old the data is.
+     */
+    private RosterSnapshot staleRosterOrThrow(String operation, Throwable cause) throws Throwable {
+        RosterSnapshot roster = lastGoodRoster;
+        if (!isUnavailable(cause) || roster == null || roster.age().compareTo(maxStaleness) > 0) {
+            throw cause;
+        }
+        log.warn(
+                "Employee Service unavailable ({}), serving {} from a roster fetched {} ago",
+                cause.toString(),
+                operation,
+                roster.age());
+        String unavailability = unavailabilityCause(cause);
+        staleReads
+                .computeIfAbsent(operation + '/' + unavailability, key -> staleReadCounter(operation, unavailability))
+                .increment();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(
+                    AppConstants.STALE_ROSTER_AGE_ATTRIBUTE, roster.age(), RequestAttributes.SCOPE_REQUEST);
+        }
+        return roster;
+    }
+
+    static boolean isUnavailable(Throwable cause) {
+        return cause instanceof CallNotPermittedException
+                || cause instanceof BulkheadFullException
+                || cause instanceof RetryableFeignException
+                || cause instanceof RetryableException;
+    }
+
+    private Counter staleReadCounter(String operation, String unavailability) {
+        return Counter.builder("employee.roster.stale.reads")
+                .description("Reads answered from the last good roster while the Employee Service was unavailable")
+                .tag("operation", operation)
+                .tag("cause", unavailability)
+                .register(meterRegistry);
+    }
+
+    private static String unavailabilityCause(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        return cause instanceof BulkheadFullException ? "bulkhead_full" : "retries_exhausted";
+    }
+
+    private static double lastGoodRosterAgeSeconds(EmployeeDataService service) {
+        RosterSnapshot roster = service.lastGoodRoster;
+        return roster != null ? roster.age().toMillis() / 1000.0 : Double.NaN;
+    }
+
+    private static double cachedRosterSize(Cache<String, RosterSnapshot> cache) {
+        // asMap() reads are not recorded, so scraping the gauge does not skew the hit rate
+        RosterSnapshot roster = cache.asMap().get(AppConstants.CACHE_KEY_ALL);
+        return roster != null ? roster.size() : 0;
+    }
+
     EmployeeResponseDto toResponse(EmployeeDto dto) {
         EmployeeResponseDto response = new EmployeeResponseDto();
         response.setId(dto.getId());
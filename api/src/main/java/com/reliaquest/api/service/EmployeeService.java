@@ -1,12 +1,30 @@
 package com.reliaquest.api.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.config.IdempotencyProperties;
+import com.reliaquest.api.constants.AppConstants;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.IdempotencyKeyReuseException;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.CursorPage;
+import com.reliaquest.api.model.EmployeeCursor;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.EmployeeSort;
+import com.reliaquest.api.model.EmployeeSuggestion;
+import com.reliaquest.api.model.RosterSnapshot;
 import java.text.MessageFormat;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,37 +37,88 @@ import org.springframework.stereotype.Service;
  */
 public class EmployeeService {
 
+    private static final int TOP_EARNERS_LIMIT = 10;
+
     private final EmployeeDataService employeeDataService;
 
-    public EmployeeService(EmployeeDataService employeeDataService) {
+    // Creates by Idempotency-Key, a create in flight is shared by the duplicates that arrive while it runs
+    private final Cache<String, IdempotentCreate> idempotentCreates;
+
+    public EmployeeService(EmployeeDataService employeeDataService, IdempotencyProperties idempotencyProperties) {
         this.employeeDataService = employeeDataService;
+        this.idempotentCreates = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.getMaximumSize())
+                .expireAfterWrite(idempotencyProperties.getTtl())
+                .build();
     }
 
     public List<EmployeeResponseDto> searchEmployeesByName(String searchString) {
         log.info("Searching employees with name containing: {}", searchString);
-        List<EmployeeResponseDto> employees = employeeDataService.getAllEmployees();
-        return employees.stream()
-                .filter(emp -> emp.getName() != null
-                        && (emp.getName().equalsIgnoreCase(searchString)
-                                || emp.getName().toLowerCase().contains(searchString.toLowerCase())))
-                .collect(Collectors.toList());
+        Optional<RosterSnapshot> cachedEmployees = employeeDataService.getCachedEmployees();
+        if (cachedEmployees.isEmpty()) {
+            // Cold cache: let the Employee Service filter instead of loading the whole roster for a search
+            log.info("Employee cache is cold, pushing name search down to Employee Service");
+            return employeeDataService.searchEmployees(EmployeeSearchRequest.byName(searchString));
+        }
+        return cachedEmployees.get().stream().filter(nameMatches(searchString)).collect(Collectors.toList());
+    }
+
+    /**
+     * One page of the roster in the given order, continuing after the cursor. Served from the cached roster, which is
+     * fetched first when the cache is cold.
+     *
+     * @throws InvalidQueryException if the limit is out of range or the cursor belongs to another order
+     */
+    public CursorPage getEmployeesPage(EmployeeSort sort, EmployeeCursor after, int limit) {
+        checkPage(sort, after, limit);
+        return employeeDataService.getAllEmployees().page(sort, after, limit, employee -> true);
+    }
+
+    /**
+     * One page of the employees whose name contains the search string, in the given order, continuing after the
+     * cursor. A cold cache leaves the search to the Employee Service and pages through its result.
+     *
+     * @throws InvalidQueryException if the limit is out of range or the cursor belongs to another order
+     */
+    public CursorPage searchEmployeesByNamePage(
+            String searchString, EmployeeSort sort, EmployeeCursor after, int limit) {
+        checkPage(sort, after, limit);
+        Optional<RosterSnapshot> cachedEmployees = employeeDataService.getCachedEmployees();
+        if (cachedEmployees.isEmpty()) {
+            log.info("Employee cache is cold, pushing name search down to Employee Service");
+            List<EmployeeResponseDto> matches =
+                    employeeDataService.searchEmployees(EmployeeSearchRequest.byName(searchString));
+            return RosterSnapshot.of(matches).page(sort, after, limit, employee -> true);
+        }
+        return cachedEmployees.get().page(sort, after, limit, nameMatches(searchString));
     }
 
     public OptionalInt getHighestSalary() {
         log.info("Calculating highest salary among employees");
-        List<EmployeeResponseDto> employees = employeeDataService.getAllEmployees();
-        return employees.stream().mapToInt(EmployeeResponseDto::getSalary).max();
+        Optional<RosterSnapshot> cachedEmployees = employeeDataService.getCachedEmployees();
+        if (cachedEmployees.isEmpty()) {
+            log.info("Employee cache is cold, asking Employee Service for the highest salary");
+            return employeeDataService.getHighestSalary();
+        }
+        return cachedEmployees.get().stream()
+                .mapToInt(EmployeeResponseDto::getSalary)
+                .max();
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
         log.info("Fetching top 10 highest earning employee names");
 
-        List<EmployeeResponseDto> employees = java.util.Optional.ofNullable(employeeDataService.getAllEmployees())
-                .orElse(java.util.Collections.emptyList());
+        Optional<RosterSnapshot> cachedEmployees = employeeDataService.getCachedEmployees();
+        if (cachedEmployees.isEmpty()) {
+            log.info("Employee cache is cold, asking Employee Service for the top earners");
+            return employeeDataService.getTopEarners(TOP_EARNERS_LIMIT).stream()
+                    .map(EmployeeResponseDto::getName)
+                    .collect(Collectors.toList());
+        }
 
-        return employees.stream()
+        return cachedEmployees.get().stream()
                 .sorted(Comparator.comparingInt(EmployeeResponseDto::getSalary).reversed())
-                .limit(10)
+                .limit(TOP_EARNERS_LIMIT)
                 .map(EmployeeResponseDto::getName)
                 .collect(Collectors.toList());
     }
@@ -73,11 +142,109 @@ public class EmployeeService {
         return employeeDataService.getEmployeeById(id);
     }
 
-    public EmployeeResponseDto createEmployee(EmployeeRequest employeeRequest) {
-        return employeeDataService.createEmployee(employeeRequest);
+    /**
+     * Creates an employee. Without an idempotency key each call creates one. With a key, the first call creates the
+     * employee and repeated calls with the same key and request get its result, including calls that arrive while it
+     * is still in flight. A failed create is forgotten, so that it can be repeated with the same key.
+     *
+     * @throws IdempotencyKeyReuseException if the key was already used for a different request
+     */
+    public EmployeeResponseDto createEmployee(EmployeeRequest employeeRequest, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return employeeDataService.createEmployee(employeeRequest, UUID.randomUUID().toString());
+        }
+        IdempotentCreate create = new IdempotentCreate(employeeRequest, new CompletableFuture<>());
+        IdempotentCreate existing = idempotentCreates.asMap().putIfAbsent(idempotencyKey, create);
+        if (existing != null) {
+            if (!existing.request().equals(employeeRequest)) {
+                throw new IdempotencyKeyReuseException(MessageFormat.format(
+                        "Idempotency key {0} was already used for another employee", idempotencyKey));
+            }
+            log.info("Create with idempotency key {} already submitted, returning its result", idempotencyKey);
+            return join(existing.result());
+        }
+        try {
+            EmployeeResponseDto created = employeeDataService.createEmployee(employeeRequest, idempotencyKey);
+            create.result().complete(created);
+            return created;
+        } catch (RuntimeException e) {
+            idempotentCreates.asMap().remove(idempotencyKey, create);
+            create.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * One page of the employees matching the salary, age, title and name criteria, in roster order. A warm cache is
+     * queried through its indexes; a cold one leaves the filtering to the Employee Service, as a name search does.
+     */
+    public EmployeePage queryEmployees(EmployeeSearchRequest criteria, int page, int size) {
+        if (page < 0) {
+            throw new InvalidQueryException("page must not be negative");
+        }
+        if (size < 1 || size > AppConstants.MAX_PAGE_SIZE) {
+            throw new InvalidQueryException("size must be between 1 and " + AppConstants.MAX_PAGE_SIZE);
+        }
+        List<EmployeeResponseDto> matches = employeeDataService
+                .queryCachedEmployees(criteria)
+                .orElseGet(() -> {
+                    log.info("Employee cache is cold, pushing query down to Employee Service");
+                    return employeeDataService.searchEmployees(criteria);
+                });
+        int from = (int) Math.min((long) page * size, matches.size());
+        int to = Math.min(from + size, matches.size());
+        return new EmployeePage(List.copyOf(matches.subList(from, to)), page, size, matches.size());
     }
 
     public List<EmployeeResponseDto> getAllEmployees() {
         return employeeDataService.getAllEmployees();
     }
+
+    /**
+     * Up to {@code k} employees with a word of their name starting with the prefix, for a type-ahead. Answered from
+     * the name index of the cached roster, which is fetched first when the cache is cold.
+     *
+     * @throws InvalidQueryException if the prefix is blank or k is out of range
+     */
+    public List<EmployeeSuggestion> suggestEmployees(String prefix, int k) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidQueryException("prefix must not be blank");
+        }
+        if (k < 1 || k > AppConstants.MAX_SUGGESTIONS) {
+            throw new InvalidQueryException("k must be between 1 and " + AppConstants.MAX_SUGGESTIONS);
+        }
+        return employeeDataService.getAllEmployees().suggest(prefix, k).stream()
+                .map(EmployeeSuggestion::of)
+                .toList();
+    }
+
+    private static Predicate<EmployeeResponseDto> nameMatches(String searchString) {
+        String fragment = searchString.toLowerCase();
+        return emp -> emp.getName() != null
+                && (emp.getName().equalsIgnoreCase(searchString)
+                        || emp.getName().toLowerCase().contains(fragment));
+    }
+
+    private static void checkPage(EmployeeSort sort, EmployeeCursor after, int limit) {
+        if (limit < 1 || limit > AppConstants.MAX_PAGE_SIZE) {
+            throw new InvalidQueryException("limit must be between 1 and " + AppConstants.MAX_PAGE_SIZE);
+        }
+        if (after != null && !after.sort().equals(sort)) {
+            throw new InvalidQueryException("cursor was issued for sort " + after.sort() + ", not " + sort);
+        }
+    }
+
+    private static EmployeeResponseDto join(CompletableFuture<EmployeeResponseDto> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // Rethrow what the first call failed with, so that the duplicates get the same response
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record IdempotentCreate(EmployeeRequest request, CompletableFuture<EmployeeResponseDto> result) {}
 }
@@ -0,0 +1,107 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.RosterPersistenceProperties;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.helper.RosterFile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Warm start: keeps the last good roster in a local file, so that a restarted API answers from a cache instead of
+ * having every first request race for the rate limited Employee Service. The file is read while the application
+ * context starts, before the API accepts requests, and a restored roster is then fetched again in the background.
+ * While running, the roster is written whenever it changed, at most once per write interval, and once more on
+ * shutdown.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.roster-persistence.enabled")
+public class RosterPersistence {
+
+    private final EmployeeDataService employeeDataService;
+    private final Path file;
+    private final long writeIntervalMillis;
+
+    private ScheduledExecutorService worker;
+
+    // Version of the roster in the file, so an unchanged roster is not written again
+    private long writtenVersion = -1;
+
+    public RosterPersistence(EmployeeDataService employeeDataService, RosterPersistenceProperties properties) {
+        this.employeeDataService = employeeDataService;
+        this.file = properties.getFile();
+        this.writeIntervalMillis = properties.getWriteInterval().toMillis();
+    }
+
+    @PostConstruct
+    public void start() {
+        boolean restored = restore();
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-roster-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (restored) {
+            worker.execute(this::revalidate);
+        }
+        worker.scheduleWithFixedDelay(this::persist, writeIntervalMillis, writeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+        persist();
+    }
+
+    boolean restore() {
+        long start = System.nanoTime();
+        Optional<RosterSnapshot> roster = RosterFile.read(file);
+        if (roster.isEmpty() || !employeeDataService.restoreRoster(roster.get())) {
+            return false;
+        }
+        writtenVersion = employeeDataService.getLastGoodRoster().map(RosterSnapshot::version).orElse(-1L);
+        log.info(
+                "Restored {} employees fetched {} ago from {} in {} ms",
+                roster.get().size(),
+                roster.get().age(),
+                file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    void revalidate() {
+        try {
+            employeeDataService.refreshRoster();
+            log.info("Revalidated the restored roster with the Employee Service");
+        } catch (RuntimeException e) {
+            // Not served as fresh any longer: the next read fetches the roster, or falls back to it with its age
+            log.warn("Could not revalidate the restored roster: {}", e.toString());
+            employeeDataService.expireRestoredRoster();
+        }
+    }
+
+    synchronized void persist() {
+        Optional<RosterSnapshot> roster = employeeDataService.getLastGoodRoster();
+        if (roster.isEmpty() || roster.get().version() == writtenVersion) {
+            return;
+        }
+        try {
+            RosterFile.write(file, roster.get());
+            writtenVersion = roster.get().version();
+            log.debug("Wrote {} employees to {}", roster.get().size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write the roster to {}: {}", file, e.toString());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.service.coherence;
+
+import com.reliaquest.api.model.RosterChange;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects replicas running in the same process, such as the services of a test. Changes are delivered right away on
+ * the publishing thread. A single replica has no peers, which makes this the bus of a standalone API.
+ */
+@Slf4j
+public class InMemoryRosterChangeBus implements RosterChangeBus {
+
+    private final List<InMemoryRosterChangeBus> group;
+    private final List<Consumer<RosterChange>> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryRosterChangeBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private InMemoryRosterChangeBus(List<InMemoryRosterChangeBus> group) {
+        this.group = group;
+        group.add(this);
+    }
+
+    /**
+     * A bus for another replica, connected to this one and to every other bus it was joined with.
+     */
+    public InMemoryRosterChangeBus join() {
+        return new InMemoryRosterChangeBus(group);
+    }
+
+    @Override
+    public void publish(RosterChange change) {
+        for (InMemoryRosterChangeBus peer : group) {
+            if (peer != this) {
+                peer.deliver(change);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RosterChange> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public boolean hasPeers() {
+        return group.size() > 1;
+    }
+
+    private void deliver(RosterChange change) {
+        for (Consumer<RosterChange> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                log.warn(
+                        "Failed to apply roster change {} of employee {}: {}",
+                        change.type(),
+                        change.id(),
+                        e.toString());
+            }
+        }
+    }
+}
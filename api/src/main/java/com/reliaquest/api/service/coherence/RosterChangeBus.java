@@ -0,0 +1,33 @@
+package com.reliaquest.api.service.coherence;
+
+import com.reliaquest.api.model.RosterChange;
+import java.util.function.Consumer;
+
+/**
+ * Carries the roster changes of each API replica to its peers, so that their cached rosters stay coherent without
+ * every replica fetching the roster again. A replica is not sent its own changes. Delivery is best effort: a change
+ * that is lost leaves a peer's roster stale until its cache entry expires.
+ */
+public interface RosterChangeBus extends AutoCloseable {
+
+    /**
+     * Sends a change to the peers. Never throws, a failure to send is logged.
+     */
+    void publish(RosterChange change);
+
+    /**
+     * Registers a listener for the changes of the peers, called on the thread that delivers them.
+     */
+    void subscribe(Consumer<RosterChange> listener);
+
+    /**
+     * Whether there are other replicas, which change the Employee Service too.
+     */
+    boolean hasPeers();
+
+    /**
+     * Stops exchanging changes.
+     */
+    @Override
+    default void close() {}
+}
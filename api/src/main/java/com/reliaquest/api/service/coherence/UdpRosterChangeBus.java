@@ -0,0 +1,185 @@
+package com.reliaquest.api.service.coherence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.model.RosterChange;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends every change as a JSON datagram to each configured peer and delivers the datagrams of the peers on a receiver
+ * thread. A change takes a single datagram, so it arrives within a network round trip or not at all; peers on the same
+ * host are reached on the loopback interface. Datagrams carry the id of the sending replica, so a replica that finds
+ * itself among the peers ignores its own changes, and datagrams from any address but a peer's are dropped.
+ *
+ * <p>Datagrams may arrive out of order, so every change is stamped with a Lamport clock: a replica stamps its changes
+ * one past the latest stamp it sent or received, and ignores a change to an employee that is older than the change to
+ * that employee it applied last. A delete is therefore not undone by the create before it arriving late.
+ */
+@Slf4j
+public class UdpRosterChangeBus implements RosterChangeBus {
+
+    // Largest payload of a UDP datagram over IPv4
+    private static final int MAX_DATAGRAM_SIZE = 65_507;
+
+    // Datagrams are only reordered within moments, so the stamp of the last change to an employee is not kept long
+    private static final Duration STAMP_RETENTION = Duration.ofMinutes(1);
+    private static final int MAX_STAMPS = 100_000;
+
+    private final String replicaId = UUID.randomUUID().toString();
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers;
+    private final Set<InetSocketAddress> peerAddresses;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<RosterChange>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread receiver;
+
+    // Lamport clock: the latest stamp this replica sent or received
+    private final AtomicLong clock = new AtomicLong();
+
+    // Stamp of the last change applied to each employee, by id
+    private final Cache<String, Stamp> lastChanges = Caffeine.newBuilder()
+            .maximumSize(MAX_STAMPS)
+            .expireAfterWrite(STAMP_RETENTION)
+            .build();
+
+    /**
+     * Listens on the given address, on a free port when its port is 0, and exchanges changes with the given peers.
+     */
+    public UdpRosterChangeBus(InetSocketAddress address, List<InetSocketAddress> peers, ObjectMapper objectMapper) {
+        try {
+            this.socket = new DatagramSocket(address);
+        } catch (SocketException e) {
+            throw new UncheckedIOException("Cannot listen for roster changes on " + address, e);
+        }
+        this.peers = List.copyOf(peers);
+        this.peerAddresses = Set.copyOf(peers);
+        this.objectMapper = objectMapper;
+        this.receiver = new Thread(this::receive, "employee-roster-change-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("Exchanging roster changes on {} with {}", socket.getLocalSocketAddress(), this.peers);
+    }
+
+    public int getPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void publish(RosterChange change) {
+        Stamp stamp = new Stamp(clock.incrementAndGet(), replicaId);
+        lastChanges.put(change.id(), stamp);
+        byte[] datagram;
+        try {
+            datagram = objectMapper.writeValueAsBytes(new Envelope(stamp.origin(), stamp.sequence(), change));
+        } catch (IOException e) {
+            log.warn("Cannot encode roster change of employee {}: {}", change.id(), e.toString());
+            return;
+        }
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(datagram, datagram.length, peer));
+            } catch (IOException e) {
+                log.warn("Cannot send roster change to {}: {}", peer, e.toString());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RosterChange> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public boolean hasPeers() {
+        return !peers.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM_SIZE];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                if (!peerAddresses.contains(packet.getSocketAddress())) {
+                    log.debug("Ignoring datagram from {}, which is not a peer", packet.getSocketAddress());
+                    continue;
+                }
+                Envelope envelope = objectMapper.readValue(packet.getData(), 0, packet.getLength(), Envelope.class);
+                if (!replicaId.equals(envelope.origin())) {
+                    deliverIfLatest(envelope);
+                }
+            } catch (SocketException e) {
+                // Closed
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable roster change from {}: {}", packet.getSocketAddress(), e.toString());
+            }
+        }
+    }
+
+    private void deliverIfLatest(Envelope envelope) {
+        clock.accumulateAndGet(envelope.sequence(), Math::max);
+        RosterChange change = envelope.change();
+        Stamp stamp = new Stamp(envelope.sequence(), envelope.origin());
+        boolean[] latest = {false};
+        lastChanges.asMap().compute(change.id(), (id, last) -> {
+            if (last != null && last.compareTo(stamp) >= 0) {
+                return last;
+            }
+            latest[0] = true;
+            return stamp;
+        });
+        if (latest[0]) {
+            deliver(change);
+        } else {
+            log.debug("Ignoring roster change {} of employee {} older than one applied", change.type(), change.id());
+        }
+    }
+
+    private void deliver(RosterChange change) {
+        for (Consumer<RosterChange> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                log.warn(
+                        "Failed to apply roster change {} of employee {}: {}",
+                        change.type(),
+                        change.id(),
+                        e.toString());
+            }
+        }
+    }
+
+    private record Envelope(String origin, long sequence, RosterChange change) {}
+
+    // Orders changes by their Lamport clock, and those of the same time by the replica that made them
+    private record Stamp(long sequence, String origin) implements Comparable<Stamp> {
+
+        private static final Comparator<Stamp> ORDER =
+                Comparator.comparingLong(Stamp::sequence).thenComparing(Stamp::origin);
+
+        @Override
+        public int compareTo(Stamp other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
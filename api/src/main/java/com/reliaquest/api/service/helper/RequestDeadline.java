@@ -0,0 +1,68 @@
+package com.reliaquest.api.service.helper;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Deadline of the request the current thread works for. Set when a request arrives and checked before every call to
+ * the Employee Service, so that no call is made, or retried, after the client stopped waiting for the answer. Threads
+ * that work for a request on its behalf, like hedged lookups, get the deadline through {@link #propagate(Supplier)}.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    public static void start(Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * Time left until the deadline, negative once it passed, or empty when the thread has no deadline.
+     */
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null ? Optional.of(Duration.ofNanos(deadline - System.nanoTime())) : Optional.empty();
+    }
+
+    /**
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public static void check(String operation) {
+        Optional<Duration> remaining = remaining();
+        if (remaining.isPresent() && !remaining.get().isPositive()) {
+            throw new DeadlineExceededException(
+                    "Deadline exceeded by " + remaining.get().negated().toMillis() + "ms before " + operation);
+        }
+    }
+
+    /**
+     * Wraps the task so that it runs with the deadline of the calling thread, on whichever thread runs it.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Long previous = DEADLINE_NANOS.get();
+            DEADLINE_NANOS.set(deadline);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    DEADLINE_NANOS.set(previous);
+                } else {
+                    DEADLINE_NANOS.remove();
+                }
+            }
+        };
+    }
+}
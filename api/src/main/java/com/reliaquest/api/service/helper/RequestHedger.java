@@ -0,0 +1,212 @@
+package com.reliaquest.api.service.helper;
+
+import com.reliaquest.api.config.EmployeeHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hedged requests: when a request has not answered within the hedge delay, an identical second request is sent and
+ * whichever succeeds first wins. The delay is a percentile of the latencies of recent requests, so only the slowest
+ * few are hedged. Hedges are paid from a budget that every request adds a fraction of a hedge to, which caps them at
+ * a percentage of the requests however slow the downstream gets.
+ *
+ * <p>Only meant for reads, which are safe to send twice.
+ */
+@Slf4j
+public class RequestHedger {
+
+    private static final int LATENCY_SAMPLES = 256;
+    // The delay is recomputed from the samples after this many new ones
+    private static final int RECOMPUTE_INTERVAL = 32;
+    // Caps the hedges a quiet period can save up for a burst of slow requests
+    private static final double MAX_BUDGET = 10;
+
+    private final EmployeeHedgingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesDenied;
+
+    // Guarded by this
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int nextSample;
+    private boolean samplesFilled;
+    private double budget;
+
+    private volatile long delayNanos;
+
+    public RequestHedger(EmployeeHedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.delayNanos = properties.getDelay().toNanos();
+        this.executor = properties.isEnabled() ? newExecutor(properties.getMaxThreads()) : null;
+        // sent: the first request was slow, won: the hedge answered first, denied: the budget was used up
+        this.hedgesSent = hedgeCounter(meterRegistry, "sent");
+        this.hedgesWon = hedgeCounter(meterRegistry, "won");
+        this.hedgesDenied = hedgeCounter(meterRegistry, "denied");
+    }
+
+    /**
+     * Runs the request, hedged if enabled. Failures of the request are rethrown as they are, a hedged request only
+     * fails when both attempts failed.
+     */
+    public <T> T call(Supplier<T> request) {
+        if (executor == null) {
+            return request.get();
+        }
+        request = RequestDeadline.propagate(request);
+        depositBudget();
+        CompletableFuture<T> primary;
+        try {
+            primary = timed(request);
+        } catch (RejectedExecutionException e) {
+            log.debug("No thread available for a hedged request, running it unhedged");
+            return request.get();
+        }
+        try {
+            return primary.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return awaitWithHedge(primary, request);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request", e);
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    long getDelayNanos() {
+        return delayNanos;
+    }
+
+    private <T> T awaitWithHedge(CompletableFuture<T> primary, Supplier<T> request) {
+        if (!withdrawBudget()) {
+            hedgesDenied.increment();
+            return join(primary);
+        }
+        CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(request, executor);
+        } catch (RejectedExecutionException e) {
+            return join(primary);
+        }
+        hedgesSent.increment();
+        log.debug("Request slower than {}ms, sent a hedge", TimeUnit.NANOSECONDS.toMillis(delayNanos));
+        return join(firstSuccessful(primary, hedge));
+    }
+
+    // Completes with the first attempt that succeeds, or with the failure of the primary once both failed
+    private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean answered = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    // Counted before the caller is woken up, so the count is in place when the lookup returns
+                    if (answered.compareAndSet(false, true)) {
+                        if (attempt == hedge) {
+                            hedgesWon.increment();
+                        }
+                        result.complete(value);
+                    }
+                } else if (failures.incrementAndGet() == 2) {
+                    primary.whenComplete((ignored, primaryError) -> result.completeExceptionally(primaryError));
+                }
+            });
+        }
+        return result;
+    }
+
+    private <T> CompletableFuture<T> timed(Supplier<T> request) {
+        long start = System.nanoTime();
+        CompletableFuture<T> attempt = CompletableFuture.supplyAsync(request, executor);
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                recordLatency(System.nanoTime() - start);
+            }
+        });
+        return attempt;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies[nextSample] = nanos;
+        nextSample = (nextSample + 1) % LATENCY_SAMPLES;
+        samplesFilled |= nextSample == 0;
+        if (properties.getPercentile() > 0 && samplesFilled && nextSample % RECOMPUTE_INTERVAL == 0) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(properties.getPercentile() * LATENCY_SAMPLES) - 1;
+            delayNanos = sorted[Math.max(0, Math.min(index, LATENCY_SAMPLES - 1))];
+        }
+    }
+
+    private synchronized void depositBudget() {
+        budget = Math.min(MAX_BUDGET, budget + properties.getBudgetPercent() / 100);
+    }
+
+    private synchronized boolean withdrawBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.lookup.hedges")
+                .description("Hedged single-employee lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // Direct hand-off, a request that finds no idle thread is rejected rather than queued behind slow ones
+    private static ThreadPoolExecutor newExecutor(int maxThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "employee-lookup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.service.helper;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads and writes a {@link RosterSnapshot} as a gzipped binary file: a header with the format and the time the roster
+ * was fetched, followed by the fields of every employee. Repeated titles are left to the compression.
+ */
+@Slf4j
+public final class RosterFile {
+
+    // "RST" and the version of the format, a file of another version is ignored
+    private static final int MAGIC = 0x52535401;
+
+    private RosterFile() {}
+
+    /**
+     * Writes the roster to a temporary file next to the target and moves it into place, so the target holds either
+     * the previous roster or the new one.
+     */
+    public static void write(Path file, RosterSnapshot roster) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+                out.writeInt(MAGIC);
+                out.writeLong(roster.fetchedAt().toEpochMilli());
+                out.writeInt(roster.size());
+                for (EmployeeResponseDto employee : roster) {
+                    out.writeUTF(employee.getId());
+                    writeNullable(out, employee.getName());
+                    out.writeInt(employee.getSalary());
+                    out.writeInt(employee.getAge());
+                    writeNullable(out, employee.getTitle());
+                    writeNullable(out, employee.getEmail());
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads the roster from the file, or empty when there is no file or it cannot be read.
+     */
+    public static Optional<RosterSnapshot> read(Path file) {
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                log.warn("Ignoring roster file {} written in an unknown format", file);
+                return Optional.empty();
+            }
+            Instant fetchedAt = Instant.ofEpochMilli(in.readLong());
+            int size = in.readInt();
+            List<EmployeeResponseDto> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                EmployeeResponseDto employee = new EmployeeResponseDto();
+                employee.setId(in.readUTF());
+                employee.setName(readNullable(in));
+                employee.setSalary(in.readInt());
+                employee.setAge(in.readInt());
+                employee.setTitle(readNullable(in));
+                employee.setEmail(readNullable(in));
+                employees.add(employee);
+            }
+            return Optional.of(RosterSnapshot.of(employees, fetchedAt));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Could not read roster file {}: {}", file, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
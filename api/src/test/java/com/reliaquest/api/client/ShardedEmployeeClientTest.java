@@ -0,0 +1,151 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.RetryableFeignException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShardedEmployeeClientTest {
+
+    private EmployeeClient first;
+    private EmployeeClient second;
+    private ShardedEmployeeClient client;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(EmployeeClient.class);
+        second = mock(EmployeeClient.class);
+        client = new ShardedEmployeeClient(List.of(first, second), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    void testShardOf_SplitsHighBitsIntoEqualRanges() {
+        assertEquals(0, ShardedEmployeeClient.shardOf("00000000-0000-4000-8000-000000000000", 2));
+        assertEquals(0, ShardedEmployeeClient.shardOf("7fffffff-ffff-4fff-bfff-ffffffffffff", 2));
+        assertEquals(1, ShardedEmployeeClient.shardOf("80000000-0000-4000-8000-000000000000", 2));
+        assertEquals(2, ShardedEmployeeClient.shardOf("ffffffff-ffff-4fff-bfff-ffffffffffff", 3));
+        assertEquals(0, ShardedEmployeeClient.shardOf("not-a-uuid", 3));
+    }
+
+    @Test
+    void testGetEmployeeById_AsksOwningShardOnly() {
+        String id = "c0000000-0000-4000-8000-000000000000";
+        when(second.getEmployeeById(id)).thenReturn(response(employee(id, 1000)));
+
+        assertEquals(id, client.getEmployeeById(id).getData().getId());
+        verifyNoInteractions(first);
+    }
+
+    @Test
+    void testGetAllEmployees_MergesRostersOfAllShards() {
+        Instant older = Instant.now().minusSeconds(60);
+        when(first.getAllEmployees()).thenReturn(response(RosterSnapshot.of(List.of(responseDto("1")), older)));
+        when(second.getAllEmployees())
+                .thenReturn(response(RosterSnapshot.of(List.of(responseDto("2"), responseDto("3")))));
+
+        RosterSnapshot roster = client.getAllEmployees().getData();
+
+        assertEquals(List.of("1", "2", "3"), roster.stream().map(EmployeeResponseDto::getId).toList());
+        assertEquals(older, roster.fetchedAt());
+    }
+
+    @Test
+    void testGetTopEmployees_MergesRankingsUpToK() {
+        when(first.getTopEmployees("salary", 3))
+                .thenReturn(response(List.of(employee("a", 900), employee("b", 500), employee("c", 100))));
+        when(second.getTopEmployees("salary", 3))
+                .thenReturn(response(List.of(employee("d", 700), employee("e", 500))));
+
+        List<EmployeeDto> top = client.getTopEmployees("salary", 3).getData();
+
+        assertEquals(List.of("a", "d", "b"), top.stream().map(EmployeeDto::getId).toList());
+    }
+
+    @Test
+    void testGetMaxSalary_IgnoresEmptyShards() {
+        when(first.getMaxSalary()).thenReturn(response(null));
+        when(second.getMaxSalary()).thenReturn(response(4200));
+
+        assertEquals(4200, client.getMaxSalary().getData());
+    }
+
+    @Test
+    void testScatter_FailingShardFailsTheCall() {
+        when(first.getAllEmployees()).thenReturn(response(RosterSnapshot.empty()));
+        when(second.getAllEmployees()).thenThrow(new RetryableFeignException("Too many requests", 429));
+
+        RetryableFeignException e = assertThrows(RetryableFeignException.class, client::getAllEmployees);
+        assertEquals(429, e.getStatus());
+    }
+
+    @Test
+    void testCreateEmployee_SameKeyReachesSameShard() {
+        EmployeeRequest request = new EmployeeRequest();
+        String idempotencyKey = UUID.randomUUID().toString();
+        EmployeeClient owner = Math.floorMod(idempotencyKey.hashCode(), 2) == 0 ? first : second;
+
+        client.createEmployee(request, idempotencyKey);
+        client.createEmployee(request, idempotencyKey);
+
+        verify(owner, times(2)).createEmployee(request, idempotencyKey);
+    }
+
+    @Test
+    void testCreateEmployee_WithoutKeyTakesShardsInTurn() {
+        EmployeeRequest request = new EmployeeRequest();
+
+        client.createEmployee(request, null);
+        client.createEmployee(request, null);
+        client.createEmployee(request, " ");
+        client.createEmployee(request, null);
+
+        verify(first).createEmployee(request, null);
+        verify(first).createEmployee(request, " ");
+        verify(second, times(2)).createEmployee(request, null);
+    }
+
+    @Test
+    void testDeleteEmployeeByName_StopsAtFirstShardThatDeleted() {
+        EmployeeRequest request = new EmployeeRequest();
+        when(first.deleteEmployeeByName(request)).thenReturn(response(true));
+
+        assertTrue(client.deleteEmployeeByName(request).getData());
+        verifyNoInteractions(second);
+    }
+
+    private static <T> ApiResponse<T> response(T data) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setData(data);
+        response.setStatus("Successfully processed request.");
+        return response;
+    }
+
+    private static EmployeeDto employee(String id, int salary) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setId(id);
+        employee.setSalary(salary);
+        return employee;
+    }
+
+    private static EmployeeResponseDto responseDto(String id) {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id);
+        return employee;
+    }
+}
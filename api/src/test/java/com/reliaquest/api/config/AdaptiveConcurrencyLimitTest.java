@@ -0,0 +1,97 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.AdaptiveConcurrencyLimit.Priority;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private LoadSheddingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoadSheddingProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+    }
+
+    @Test
+    void testTryAcquire_ShedsWritesBeforeReads() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(Priority.WRITE));
+        }
+
+        assertFalse(limit.tryAcquire(Priority.WRITE));
+        assertTrue(limit.tryAcquire(Priority.READ));
+        assertTrue(limit.tryAcquire(Priority.READ));
+        assertTrue(limit.tryAcquire(Priority.READ));
+        assertFalse(limit.tryAcquire(Priority.READ));
+        assertTrue(limit.tryAcquire(Priority.CACHED_READ));
+        assertTrue(limit.tryAcquire(Priority.CACHED_READ));
+        assertFalse(limit.tryAcquire(Priority.CACHED_READ));
+    }
+
+    @Test
+    void testRelease_LowersLimitOnSlowRequestsAndRaisesItOnFastOnes() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+
+        limit.tryAcquire(Priority.CACHED_READ);
+        limit.release(SLOW);
+        assertEquals(9, limit.getLimit());
+
+        // Further slow requests within the same target latency do not lower it again
+        limit.tryAcquire(Priority.CACHED_READ);
+        limit.release(SLOW);
+        assertEquals(9, limit.getLimit());
+
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire(Priority.CACHED_READ);
+        }
+        for (int i = 0; i < 40; i++) {
+            limit.tryAcquire(Priority.CACHED_READ);
+            limit.release(FAST);
+        }
+        assertTrue(limit.getLimit() > 9);
+    }
+
+    @Test
+    void testRelease_ShrinksToTheMinimumUnderSustainedLatencyAndGrowsBack() throws InterruptedException {
+        properties.setTargetLatency(Duration.ofMillis(1));
+        properties.setMaxLimit(12);
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+
+        int previous = limit.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire(Priority.CACHED_READ);
+            limit.release(SLOW);
+            assertTrue(limit.getLimit() <= previous);
+            previous = limit.getLimit();
+            // Past the target latency, so that the next slow request lowers the limit again
+            Thread.sleep(2);
+        }
+        assertEquals(2, limit.getLimit());
+        assertTrue(limit.tryAcquire(Priority.WRITE));
+        assertFalse(limit.tryAcquire(Priority.WRITE));
+        limit.release(0);
+
+        // Rounds of as many requests as are admitted, all completing within the target latency
+        for (int round = 0; round < 100 && limit.getLimit() < 12; round++) {
+            int admitted = 0;
+            while (limit.tryAcquire(Priority.CACHED_READ)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limit.release(0);
+            }
+        }
+        assertEquals(12, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+}
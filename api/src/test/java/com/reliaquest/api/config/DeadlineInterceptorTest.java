@@ -0,0 +1,43 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.constants.AppConstants;
+import com.reliaquest.api.service.helper.RequestDeadline;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DeadlineInterceptorTest {
+
+    private final DeadlineInterceptor interceptor = new DeadlineInterceptor(new DeadlineProperties());
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void testPreHandle_UsesRequestTimeoutCappedAtMaximum() {
+        assertTrue(remainingAfter("200").compareTo(Duration.ofMillis(200)) <= 0);
+        assertTrue(remainingAfter("600000").compareTo(Duration.ofSeconds(30)) <= 0);
+    }
+
+    @Test
+    void testPreHandle_IgnoresNonPositiveOrInvalidTimeout() {
+        for (String timeout : new String[] {"0", "-5", "soon"}) {
+            Duration remaining = remainingAfter(timeout);
+            assertTrue(remaining.compareTo(Duration.ofSeconds(9)) > 0, timeout);
+            assertTrue(remaining.compareTo(Duration.ofSeconds(10)) <= 0, timeout);
+        }
+    }
+
+    private Duration remainingAfter(String timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+        request.addHeader(AppConstants.REQUEST_TIMEOUT_HEADER, timeout);
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        return RequestDeadline.remaining().orElseThrow();
+    }
+}
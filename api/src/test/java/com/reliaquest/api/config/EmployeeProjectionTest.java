@@ -0,0 +1,62 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.EmployeePage;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeProjectionTest {
+
+    @Test
+    void testParse_IgnoresCaseOrderAndBlanks() {
+        EmployeeProjection projection = EmployeeProjection.parse(" Name, id,,");
+
+        assertEquals(EnumSet.of(EmployeeProjection.Field.ID, EmployeeProjection.Field.NAME), projection.fields());
+    }
+
+    @Test
+    void testParse_RejectsUnknownAndMissingFields() {
+        InvalidQueryException unknown =
+                assertThrows(InvalidQueryException.class, () -> EmployeeProjection.parse("id,password"));
+        assertTrue(unknown.getMessage().contains("password"));
+        assertThrows(InvalidQueryException.class, () -> EmployeeProjection.parse(" , "));
+    }
+
+    @Test
+    void testSerializer_WritesOnlyProjectedFieldsInUsualOrder() throws Exception {
+        ObjectMapper mapper = mapperFor(EmployeeProjection.parse("salary,name"));
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId("1");
+        employee.setName("John");
+        employee.setSalary(5000);
+        employee.setEmail("john@company.com");
+
+        assertEquals("{\"name\":\"John\",\"salary\":5000}", mapper.writeValueAsString(employee));
+        assertEquals("[{\"name\":\"John\",\"salary\":5000}]", mapper.writeValueAsString(List.of(employee)));
+    }
+
+    @Test
+    void testSerializer_ProjectsEmployeesOfPage() throws Exception {
+        ObjectMapper mapper = mapperFor(EmployeeProjection.parse("id"));
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId("1");
+        employee.setName("John");
+
+        String json = mapper.writeValueAsString(new EmployeePage(List.of(employee), 0, 50, 1));
+
+        assertTrue(json.contains("\"content\":[{\"id\":\"1\"}]"), json);
+        assertTrue(json.contains("\"totalElements\":1"), json);
+    }
+
+    private static ObjectMapper mapperFor(EmployeeProjection projection) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(EmployeeResponseDto.class, projection.serializer());
+        return new ObjectMapper().registerModule(module);
+    }
+}
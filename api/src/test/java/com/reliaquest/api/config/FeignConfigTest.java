@@ -0,0 +1,145 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.model.RosterSnapshotDeserializer;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+class FeignConfigTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final FeignConfig feignConfig = new FeignConfig();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Decoder decoder = decoder(false);
+
+    @Test
+    void testWireFormatNegotiation_AsksForSmileWithJsonFallback() {
+        RequestTemplate template = new RequestTemplate();
+        template.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+
+        feignConfig.wireFormatNegotiation(true).apply(template);
+
+        assertEquals(List.of(SMILE, "application/json;q=0.9"), List.copyOf(template.headers().get(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void testWireFormatNegotiation_JsonOnlyWhenSmileIsDisabled() {
+        RequestTemplate template = new RequestTemplate();
+
+        feignConfig.wireFormatNegotiation(false).apply(template);
+
+        assertEquals(
+                List.of(MediaType.APPLICATION_JSON_VALUE), List.copyOf(template.headers().get(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void testFeignDecoder_DecodesTheRosterFromSmileAndJsonAlike() throws Exception {
+        ApiResponse<List<EmployeeDto>> roster = new ApiResponse<>();
+        roster.setData(List.of(employee("1", "Alice", 5000), employee("2", "Bob", 4000)));
+        roster.setStatus("Successfully processed request.");
+        Type rosterType = EmployeeClient.class.getMethod("getAllEmployees").getGenericReturnType();
+
+        byte[] smile = objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(roster);
+        byte[] json = objectMapper.writeValueAsBytes(roster);
+        assertTrue(smile.length < json.length);
+
+        for (Response response : List.of(response(SMILE, smile), response(MediaType.APPLICATION_JSON_VALUE, json))) {
+            @SuppressWarnings("unchecked")
+            RosterSnapshot decoded = ((ApiResponse<RosterSnapshot>) decoder.decode(response, rosterType)).getData();
+            assertEquals(List.of("1", "2"), decoded.stream().map(EmployeeResponseDto::getId).toList());
+            assertEquals("Alice", decoded.findById("1").getName());
+            assertEquals(4000, decoded.findById("2").getSalary());
+        }
+    }
+
+    @Test
+    void testFeignDecoder_DecodesACompactRosterIntoColumns() throws Exception {
+        ApiResponse<List<EmployeeDto>> roster = new ApiResponse<>();
+        roster.setData(List.of(employee("1", "Alice", 5000), employee("2", "Bob", 4000)));
+        Type rosterType = EmployeeClient.class.getMethod("getAllEmployees").getGenericReturnType();
+        Decoder compactDecoder = decoder(true);
+
+        for (Response response : List.of(
+                response(SMILE, objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(roster)),
+                response(MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsBytes(roster)))) {
+            @SuppressWarnings("unchecked")
+            RosterSnapshot decoded =
+                    ((ApiResponse<RosterSnapshot>) compactDecoder.decode(response, rosterType)).getData();
+            assertTrue(decoded.isCompact());
+            assertEquals("Bob", decoded.findById("2").getName());
+        }
+        // The application's mapper is left as it was
+        assertNull(objectMapper
+                .getDeserializationConfig()
+                .getAttributes()
+                .getAttribute(RosterSnapshotDeserializer.COMPACT));
+    }
+
+    @Test
+    void testFeignDecoder_DecodesOtherResponsesFromSmile() throws Exception {
+        ApiResponse<Integer> maxSalary = new ApiResponse<>();
+        maxSalary.setData(5000);
+        Type maxSalaryType = EmployeeClient.class.getMethod("getMaxSalary").getGenericReturnType();
+
+        Object decoded = decoder.decode(
+                response(SMILE, objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(maxSalary)),
+                maxSalaryType);
+
+        assertEquals(5000, ((ApiResponse<?>) decoded).getData());
+    }
+
+    private Decoder decoder(boolean compactRoster) {
+        return feignConfig.feignDecoder(
+                objectMapper,
+                compactRoster,
+                new DefaultListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class));
+    }
+
+    private static Response response(String contentType, byte[] body) {
+        Request request = Request.create(
+                Request.HttpMethod.GET,
+                "http://localhost:8112/api/v1/employee",
+                Map.of(),
+                null,
+                StandardCharsets.UTF_8,
+                null);
+        return Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Map.<String, Collection<String>>of(HttpHeaders.CONTENT_TYPE, List.of(contentType)))
+                .request(request)
+                .body(body)
+                .build();
+    }
+
+    private static EmployeeDto employee(String id, String name, int salary) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        employee.setAge(30);
+        employee.setTitle("Engineer");
+        return employee;
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reliaquest.api.service.EmployeeDataService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class LoadSheddingFilterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final EmployeeDataService employeeDataService = mock(EmployeeDataService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoadSheddingFilter filter;
+
+    // A limit of 4: one write and three reads that need the Employee Service fit in it
+    @BeforeEach
+    void setUp() {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(1);
+        properties.setWriteShare(0.25);
+        properties.setReadShare(0.75);
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        filter = new LoadSheddingFilter(properties, employeeDataService, objectMapper, meterRegistry);
+
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+        when(employeeDataService.isCachedEmployee(anyString())).thenReturn(false);
+        when(employeeDataService.isCachedEmployee("1")).thenReturn(true);
+    }
+
+    @Test
+    void testRequestBeyondTheLimit_IsShedWith503AndRetryAfter() throws Exception {
+        MockHttpServletResponse[] shed = new MockHttpServletResponse[1];
+        MockFilterChain[] downstream = new MockFilterChain[1];
+
+        // The create is still in flight when the second one arrives
+        perform("POST", "/employees", (request, response) -> {
+            downstream[0] = new MockFilterChain();
+            shed[0] = perform("DELETE", "/employees/1", downstream[0]);
+        });
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), shed[0].getStatus());
+        assertEquals("3", shed[0].getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(503, objectMapper.readTree(shed[0].getContentAsByteArray()).get("status").asInt());
+        assertNull(downstream[0].getRequest(), "a shed request must not reach the controller");
+        assertEquals(1, shedCount("write"));
+
+        // Released again once the create completed
+        assertEquals(HttpStatus.OK.value(), perform("POST", "/employees", new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void testCachedReads_AreAdmittedWhileWritesAndServiceReadsAreShed() throws Exception {
+        MockHttpServletResponse[] responses = new MockHttpServletResponse[4];
+
+        perform("POST", "/employees", (request, response) -> {
+            responses[0] = perform("POST", "/employees", new MockFilterChain());
+            perform("GET", "/employees/2", (lookup, lookupResponse) -> {
+                perform("GET", "/employees/3", (secondLookup, secondLookupResponse) -> {
+                    // A write and two reads of the Employee Service take three of the four
+                    responses[1] = perform("GET", "/employees/4", new MockFilterChain());
+                    responses[2] = perform("GET", "/employees/1", new MockFilterChain());
+                });
+            });
+            responses[3] = perform("GET", "/employees/highestSalary", new MockFilterChain());
+        });
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), responses[0].getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), responses[1].getStatus());
+        assertEquals(HttpStatus.OK.value(), responses[2].getStatus());
+        assertEquals(HttpStatus.OK.value(), responses[3].getStatus());
+        assertEquals(1, shedCount("write"));
+        assertEquals(1, shedCount("read"));
+        assertEquals(0, shedCount("cached_read"));
+    }
+
+    @Test
+    void testReadsWithAColdRoster_NeedTheEmployeeService() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.empty());
+        MockHttpServletResponse[] responses = new MockHttpServletResponse[2];
+
+        perform("GET", "/employees", (request, response) -> {
+            perform("GET", "/employees/search/ann", (search, searchResponse) -> {
+                perform("GET", "/employees/topTenHighestEarningEmployeeNames", (topTen, topTenResponse) -> {
+                    responses[0] = perform("GET", "/employees/highestSalary", new MockFilterChain());
+                    responses[1] = perform("GET", "/employees/operations/op-1", new MockFilterChain());
+                });
+            });
+        });
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), responses[0].getStatus());
+        assertEquals(HttpStatus.OK.value(), responses[1].getStatus());
+        assertEquals(1, shedCount("read"));
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(new MockHttpServletRequest(method, uri), response, chain);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        return response;
+    }
+
+    private double shedCount(String priority) {
+        return meterRegistry
+                .get("employee.inbound.shed")
+                .tag("priority", priority)
+                .counter()
+                .count();
+    }
+}
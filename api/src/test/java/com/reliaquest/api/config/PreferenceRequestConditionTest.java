@@ -0,0 +1,47 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class PreferenceRequestConditionTest {
+
+    private final PreferenceRequestCondition condition = new PreferenceRequestCondition("respond-async");
+
+    @Test
+    void testMatches_PreferenceAmongOthers() {
+        assertMatches(true, "respond-async");
+        assertMatches(true, "respond-async, wait=5");
+        assertMatches(true, "wait=5, Respond-Async");
+        assertMatches(true, "handling=lenient; foo=bar ,respond-async ; x");
+        assertMatches(true, "return=minimal", "respond-async");
+    }
+
+    @Test
+    void testDoesNotMatch_OtherPreferencesOrValues() {
+        assertMatches(false);
+        assertMatches(false, "");
+        assertMatches(false, "wait=5");
+        assertMatches(false, "respond-asynchronously");
+        assertMatches(false, "foo=\"a, respond-async\"");
+        assertMatches(false, "return=respond-async");
+    }
+
+    @Test
+    void testMatches_CorsPreflight() {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/employees");
+        request.addHeader("Origin", "https://example.com");
+        request.addHeader("Access-Control-Request-Method", "POST");
+
+        assertSame(condition, condition.getMatchingCondition(request));
+    }
+
+    private void assertMatches(boolean expected, String... preferHeaders) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/employees");
+        for (String preferHeader : preferHeaders) {
+            request.addHeader(PreferenceRequestCondition.PREFER_HEADER, preferHeader);
+        }
+        assertEquals(expected, condition.getMatchingCondition(request) != null, String.join(" | ", preferHeaders));
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.EmployeeDataService;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+// Runs against the application's own converters and interceptors, so the order they are registered in is covered too
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectedEmployeeHttpMessageConverterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeDataService employeeDataService;
+
+    private EmployeeResponseDto employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = new EmployeeResponseDto();
+        employee.setId("1");
+        employee.setName("John");
+        employee.setSalary(5000);
+        employee.setAge(30);
+        employee.setTitle("Engineer");
+        employee.setEmail("john@company.com");
+    }
+
+    @Test
+    void testGetAllEmployees_WithFieldsIsProjectedAheadOfTheRosterConverter() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(RosterSnapshot.of(List.of(employee)));
+
+        mockMvc.perform(get("/employees").param("fields", "name,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[0].name").value("John"))
+                .andExpect(jsonPath("$[0].salary").doesNotExist())
+                .andExpect(jsonPath("$[0].email").doesNotExist())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void testGetAllEmployees_WithoutFieldsIsLeftToTheRosterConverter() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(RosterSnapshot.of(List.of(employee)));
+
+        mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salary").value(5000))
+                .andExpect(jsonPath("$[0].email").value("john@company.com"))
+                .andExpect(header().exists(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void testQueryEmployees_WithFieldsProjectsThePageContent() throws Exception {
+        when(employeeService.queryEmployees(any(), anyInt(), anyInt()))
+                .thenReturn(new EmployeePage(List.of(employee), 0, 20, 1));
+
+        mockMvc.perform(get("/employees/query").param("title", "Engineer").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value("1"))
+                .andExpect(jsonPath("$.content[0].name").value("John"))
+                .andExpect(jsonPath("$.content[0].title").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void testUnknownField_IsRejectedBeforeTheController() throws Exception {
+        mockMvc.perform(get("/employees").param("fields", "id,password")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/query").param("fields", "")).andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).getAllEmployees();
+        verify(employeeService, never()).queryEmployees(any(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.RetryableFeignException;
+import com.reliaquest.api.service.helper.RequestDeadline;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RetryDeadlineConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void testRetry_GivesUpWhenWaitEndsPastDeadline() {
+        Retry retry = retry(Duration.ofSeconds(2));
+        RetryableFeignException failure = new RetryableFeignException("503", 503);
+        AtomicInteger attempts = new AtomicInteger();
+        RequestDeadline.start(Duration.ofMillis(500));
+        long start = System.nanoTime();
+
+        assertSame(failure, assertThrows(RetryableFeignException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw failure;
+        })));
+        assertEquals(1, attempts.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        assertEquals(1, retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt());
+    }
+
+    @Test
+    void testRetry_GivingUpIsPublishedAsAFailureNotRetried() {
+        Retry retry = retry(Duration.ofSeconds(2));
+        List<Throwable> ignored = new ArrayList<>();
+        retry.getEventPublisher().onIgnoredError(event -> ignored.add(event.getLastThrowable()));
+        RetryableFeignException failure = new RetryableFeignException("503", 503);
+        RequestDeadline.start(Duration.ofMillis(500));
+
+        assertThrows(RetryableFeignException.class, () -> retry.executeSupplier(() -> {
+            throw failure;
+        }));
+        assertEquals(List.of(failure), ignored);
+    }
+
+    @Test
+    void testRetry_OtherFailuresAreStillNotRetried() {
+        RetryConfig.Builder<Object> builder = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(RetryableFeignException.class);
+        RetryDeadlineConfig.fitRetriesToDeadline("employeeRead").customize(builder);
+        Retry retry = Retry.of("employeeRead", builder.build());
+        AtomicInteger attempts = new AtomicInteger();
+        RequestDeadline.start(Duration.ofSeconds(5));
+
+        assertThrows(IllegalStateException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not retryable");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testRetry_GrowingWaitIsCutShortAtTheDeadline() {
+        // Waits of 100ms and then 2s, the second ends past the deadline
+        RetryConfig.Builder<Object> builder = RetryConfig.custom()
+                .maxAttempts(3)
+                .intervalFunction(IntervalFunction.ofExponentialBackoff(100, 20));
+        RetryDeadlineConfig.fitRetriesToDeadline("employeeRead").customize(builder);
+        Retry retry = Retry.of("employeeRead", builder.build());
+        AtomicInteger attempts = new AtomicInteger();
+        RequestDeadline.start(Duration.ofMillis(600));
+        long start = System.nanoTime();
+
+        // The check DeadlineCapability makes before every call
+        assertThrows(DeadlineExceededException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            RequestDeadline.check("GET /employees");
+            throw new RetryableFeignException("503", 503);
+        }));
+        assertEquals(3, attempts.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void testRetry_WaitsWhenDeadlineAllowsOrIsAbsent() {
+        Retry retry = retry(Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(RetryableFeignException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new RetryableFeignException("503", 503);
+        }));
+        RequestDeadline.start(Duration.ofSeconds(5));
+        assertThrows(RetryableFeignException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new RetryableFeignException("503", 503);
+        }));
+
+        assertEquals(6, attempts.get());
+    }
+
+    private static Retry retry(Duration wait) {
+        RetryConfig.Builder<Object> builder = RetryConfig.custom().maxAttempts(3).waitDuration(wait);
+        RetryDeadlineConfig.fitRetriesToDeadline("employeeRead").customize(builder);
+        return Retry.of("employeeRead", builder.build());
+    }
+}
@@ -0,0 +1,236 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSuggestion;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.EmployeeDataService;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+// The load shedding filter reads the roster version too, which would take the first of the versions stubbed per call
+@SpringBootTest(properties = "employee.load-shedding.enabled=false")
+@AutoConfigureMockMvc
+class RosterETagInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final List<String> ROSTER_READS = List.of(
+            "/employees", "/employees/1", "/employees/highestSalary", "/employees/topTenHighestEarningEmployeeNames");
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeDataService employeeDataService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeService.queryEmployees(any(), anyInt(), anyInt()))
+                .thenReturn(new EmployeePage(List.of(), 0, 20, 0));
+        when(employeeService.suggestEmployees(anyString(), anyInt()))
+                .thenReturn(List.of(new EmployeeSuggestion("1", "John")));
+        EmployeeResponseDto john = new EmployeeResponseDto();
+        john.setId("1");
+        john.setName("John");
+        john.setSalary(5000);
+        when(employeeService.getAllEmployees()).thenReturn(RosterSnapshot.of(List.of(john)));
+        when(employeeService.getEmployeeById("1")).thenReturn(john);
+        when(employeeService.getHighestSalary()).thenReturn(OptionalInt.of(5000));
+        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(List.of("John"));
+    }
+
+    @Test
+    void testRosterReads_MatchingIfNoneMatchIsAnsweredWith304WithoutBody() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+
+        for (String path : ROSTER_READS) {
+            String eTag = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+            assertNotNull(eTag, path);
+
+            MockHttpServletResponse notModified = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                    .andReturn()
+                    .getResponse();
+            assertEquals(0, notModified.getContentAsByteArray().length, path);
+        }
+        verify(employeeService, times(1)).getAllEmployees();
+        verify(employeeService, times(1)).getEmployeeById("1");
+        verify(employeeService, times(1)).getHighestSalary();
+        verify(employeeService, times(1)).getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Test
+    void testRosterReads_OtherIfNoneMatchIsAnsweredInFull() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+
+        for (String path : ROSTER_READS) {
+            MockHttpServletResponse response = mockMvc.perform(
+                            get(path).header(HttpHeaders.IF_NONE_MATCH, "W/\"other-7\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andReturn()
+                    .getResponse();
+            assertTrue(response.getContentAsByteArray().length > 0, path);
+        }
+    }
+
+    @Test
+    void testGetAllEmployees_GzipIsNegotiatedAndRevalidated() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+
+        MockHttpServletResponse plain = mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse gzipped = mockMvc.perform(
+                        get("/employees").header(HttpHeaders.ACCEPT_ENCODING, "br;q=0.9, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse();
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertArrayEquals(plain.getContentAsByteArray(), body.readAllBytes());
+        }
+        // One weak ETag for both encodings of the same version
+        String eTag = gzipped.getHeader(HttpHeaders.ETAG);
+        assertEquals(plain.getHeader(HttpHeaders.ETAG), eTag);
+
+        mockMvc.perform(get("/employees")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/employees").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testQueryEmployees_WarmRosterIsRevalidatedWith304() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+
+        String eTag = mockMvc.perform(get("/employees/query").param("title", "Engineer"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("W/\""));
+
+        mockMvc.perform(get("/employees/query").param("title", "Engineer").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(employeeService, times(1)).queryEmployees(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSuggestEmployees_WarmRosterIsRevalidatedWith304() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+
+        String eTag = mockMvc.perform(get("/employees/suggest").param("prefix", "jo"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        // Weak comparison, among other tags
+        mockMvc.perform(get("/employees/suggest")
+                        .param("prefix", "jo")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag.substring(2)))
+                .andExpect(status().isNotModified());
+        verify(employeeService, times(1)).suggestEmployees(anyString(), anyInt());
+    }
+
+    @Test
+    void testNewerRoster_DoesNotMatchTheOldETag() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+        String eTag = mockMvc.perform(get("/employees/suggest").param("prefix", "jo"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(8));
+
+        String newETag = mockMvc.perform(
+                        get("/employees/suggest").param("prefix", "jo").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(newETag);
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    void testRosterChangedWhileAnswering_OmitsETag() throws Exception {
+        // Seen by the interceptor before the controller runs, then by the advice after it
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7), OptionalLong.of(8));
+
+        mockMvc.perform(get("/employees/query").param("title", "Engineer"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void testColdRoster_OmitsETagAndIgnoresIfNoneMatch() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.empty());
+
+        mockMvc.perform(get("/employees/suggest").param("prefix", "jo").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/employees/query").param("title", "Engineer"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testErrorResponse_OmitsETag() throws Exception {
+        when(employeeDataService.getCachedRosterVersion()).thenReturn(OptionalLong.of(7));
+        when(employeeService.suggestEmployees(anyString(), anyInt()))
+                .thenThrow(new InvalidQueryException("prefix must not be blank"));
+
+        mockMvc.perform(get("/employees/suggest").param("prefix", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
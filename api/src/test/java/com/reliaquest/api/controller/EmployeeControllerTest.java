@@ -0,0 +1,162 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.EmployeeCursor;
+import com.reliaquest.api.model.EmployeeSort;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.EmployeeDataService;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+// Pages are cut by the real EmployeeService from the roster the mocked data service returns
+@SpringBootTest(properties = "employee.load-shedding.enabled=false")
+@AutoConfigureMockMvc
+class EmployeeControllerTest {
+
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>; rel=\"next\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeDataService employeeDataService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeDataService.getAllEmployees())
+                .thenReturn(RosterSnapshot.of(List.of(
+                        employee("1", "Dana", 70000),
+                        employee("2", "Ben", 90000),
+                        employee("3", "Ada", 50000),
+                        employee("4", "Eve", 90000),
+                        employee("5", "Carl", 60000))));
+    }
+
+    @Test
+    void testGetAllEmployees_FollowingNextLinksVisitsEveryoneOnce() throws Exception {
+        List<String> ids = new ArrayList<>();
+        String next = "/employees?sort=-salary&limit=2";
+        int pages = 0;
+        while (next != null) {
+            MockHttpServletResponse response = mockMvc.perform(get(URI.create(next)))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            List<String> page = JsonPath.read(response.getContentAsString(), "$[*].id");
+            assertFalse(page.isEmpty());
+            ids.addAll(page);
+            next = nextLink(response);
+            pages++;
+        }
+
+        // Salary ties are ordered by id, descending as well
+        assertEquals(List.of("4", "2", "1", "5", "3"), ids);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void testGetAllEmployees_LastPageHasNoLink() throws Exception {
+        mockMvc.perform(get("/employees").param("sort", "name").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+        MockHttpServletResponse firstPage = mockMvc.perform(
+                        get("/employees").param("sort", "name").param("limit", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("3"))
+                .andReturn()
+                .getResponse();
+        String next = nextLink(firstPage);
+        assertNotNull(next);
+        assertTrue(next.contains("sort=name") && next.contains("limit=4"), next);
+
+        mockMvc.perform(get(URI.create(next)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("4"))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    void testGetAllEmployees_CursorAloneKeepsItsSort() throws Exception {
+        String cursor = new EmployeeCursor(EmployeeSort.parse("-salary"), null, 90000, "4").encode();
+
+        mockMvc.perform(get("/employees").param("cursor", cursor).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("2"));
+    }
+
+    @Test
+    void testGetAllEmployees_InvalidSortIsRejected() throws Exception {
+        mockMvc.perform(get("/employees").param("sort", "height")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("sort", "--name")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllEmployees_LimitOutOfRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/employees").param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("limit", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("limit", "1001")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("limit", "ten")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("limit", "1000")).andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetAllEmployees_MalformedOrTamperedCursorIsRejected() throws Exception {
+        String cursor = new EmployeeCursor(EmployeeSort.parse("salary"), null, 60000, "5").encode();
+
+        // Not base64, cut short, of an unknown format and of another sort than the one asked for
+        mockMvc.perform(get("/employees").param("cursor", "not a cursor!")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("cursor", cursor.substring(0, cursor.length() - 4)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("cursor", "B" + cursor.substring(1)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("cursor", cursor).param("sort", "name"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/employees").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"));
+    }
+
+    private static String nextLink(MockHttpServletResponse response) {
+        String link = response.getHeader(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        Matcher matcher = NEXT_LINK.matcher(link);
+        assertTrue(matcher.matches(), link);
+        return matcher.group(1);
+    }
+
+    private static EmployeeResponseDto employee(String id, String name, int salary) {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        employee.setAge(30);
+        employee.setTitle("Engineer");
+        return employee;
+    }
+}
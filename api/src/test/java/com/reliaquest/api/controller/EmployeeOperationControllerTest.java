@@ -0,0 +1,62 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.model.CreateOperation;
+import com.reliaquest.api.service.EmployeeCreateQueue;
+import com.reliaquest.api.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeOperationControllerTest {
+
+    private static final String EMPLOYEE_JSON = "{\"name\":\"John\",\"salary\":5000,\"age\":30,\"title\":\"Engineer\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeCreateQueue employeeCreateQueue;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Test
+    void testCreate_RespondAsyncAmongOtherPreferencesIsQueued() throws Exception {
+        when(employeeCreateQueue.submit(any(), isNull())).thenReturn(CreateOperation.pending("op-1"));
+
+        mockMvc.perform(create().header("Prefer", "wait=5, respond-async"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/employees/operations/op-1"))
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+
+        verify(employeeService, never()).createEmployee(any(), any());
+    }
+
+    @Test
+    void testCreate_OtherPreferencesAreCreatedSynchronously() throws Exception {
+        mockMvc.perform(create().header("Prefer", "return=minimal")).andExpect(status().isCreated());
+        mockMvc.perform(create()).andExpect(status().isCreated());
+
+        verify(employeeCreateQueue, never()).submit(any(), any());
+    }
+
+    private static MockHttpServletRequestBuilder create() {
+        return post("/employees").contentType(MediaType.APPLICATION_JSON).content(EMPLOYEE_JSON);
+    }
+}
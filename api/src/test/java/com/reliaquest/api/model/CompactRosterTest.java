@@ -0,0 +1,125 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompactRosterTest {
+
+    private static final String ALICE_ID = "0b7c2c9e-5f4a-4d2b-9a51-1c2d3e4f5a6b";
+    private static final String BOB_ID = "Bob-1";
+
+    @Test
+    void testCompact_KeepsEveryFieldAndTheOrder() {
+        RosterSnapshot roster = RosterSnapshot.of(List.of(
+                        employee(ALICE_ID, "Alice", 5000, "Engineer", "alice@company.com"),
+                        employee(BOB_ID, "Bøb", 4000, null, null),
+                        employee("7e0d9a3c-0000-4000-8000-000000000001", "Carol", 6000, "Engineer", null)))
+                .compact();
+
+        assertTrue(roster.isCompact());
+        assertEquals(3, roster.size());
+        assertEquals(
+                List.of(ALICE_ID, BOB_ID, "7e0d9a3c-0000-4000-8000-000000000001"),
+                roster.stream().map(EmployeeResponseDto::getId).toList());
+        EmployeeResponseDto alice = roster.findById(ALICE_ID);
+        assertEquals("Alice", alice.getName());
+        assertEquals(5000, alice.getSalary());
+        assertEquals(30, alice.getAge());
+        assertEquals("Engineer", alice.getTitle());
+        assertEquals("alice@company.com", alice.getEmail());
+        EmployeeResponseDto bob = roster.findById(BOB_ID);
+        assertEquals("Bøb", bob.getName());
+        assertNull(bob.getTitle());
+        assertNull(bob.getEmail());
+        assertSame(alice.getTitle(), roster.get(2).getTitle());
+    }
+
+    @Test
+    void testFindById_MissesUnknownAndNonCanonicalIds() {
+        RosterSnapshot roster = RosterSnapshot.of(List.of(employee(ALICE_ID, "Alice", 5000, "Engineer", null)))
+                .compact();
+
+        assertNull(roster.findById(ALICE_ID.toUpperCase()));
+        assertNull(roster.findById("missing"));
+        assertNull(roster.findById(null));
+        assertNull(RosterSnapshot.empty().compact().findById(ALICE_ID));
+    }
+
+    @Test
+    void testChanges_StayCompact() {
+        RosterSnapshot roster = RosterSnapshot.of(List.of(
+                        employee(ALICE_ID, "Alice", 5000, "Engineer", null), employee(BOB_ID, "Bob", 4000, null, null)))
+                .compact();
+
+        RosterSnapshot replaced = roster.with(employee(ALICE_ID, "Alice", 7000, "Manager", null));
+        RosterSnapshot added = replaced.with(employee("Dave-2", "Dave", 3000, "Manager", null));
+        RosterSnapshot removed = added.without(BOB_ID);
+
+        assertTrue(removed.isCompact());
+        assertEquals(5000, roster.findById(ALICE_ID).getSalary());
+        assertEquals("Manager", replaced.findById(ALICE_ID).getTitle());
+        assertEquals(
+                List.of(ALICE_ID, BOB_ID, "Dave-2"),
+                added.stream().map(EmployeeResponseDto::getId).toList());
+        assertEquals(List.of("Alice", "Dave"), removed.stream().map(EmployeeResponseDto::getName).toList());
+        assertEquals(3000, removed.findById("Dave-2").getSalary());
+        assertSame(removed, removed.without(BOB_ID));
+    }
+
+    @Test
+    void testChanges_KeepTheOtherRowsAsTheyWere() {
+        String carolId = "7e0d9a3c-0000-4000-8000-000000000001";
+        RosterSnapshot roster = RosterSnapshot.of(List.of(
+                        employee(ALICE_ID, "Alice", 5000, "Engineer", "alice@company.com"),
+                        employee(BOB_ID, "Bøb", 4000, null, null),
+                        employee(carolId, "Carol", 6000, "Engineer", "carol@company.com")))
+                .compact();
+
+        RosterSnapshot replaced = roster.with(employee(BOB_ID, null, 4500, "Zoë's team", "bob@company.com"));
+        RosterSnapshot removed = replaced.without(ALICE_ID);
+
+        EmployeeResponseDto bob = replaced.findById(BOB_ID);
+        assertNull(bob.getName());
+        assertEquals("Zoë's team", bob.getTitle());
+        assertEquals("bob@company.com", bob.getEmail());
+        assertEquals("carol@company.com", replaced.findById(carolId).getEmail());
+        assertEquals(List.of(BOB_ID, carolId), removed.stream().map(EmployeeResponseDto::getId).toList());
+        assertEquals("Carol", removed.findById(carolId).getName());
+        assertEquals("Engineer", removed.findById(carolId).getTitle());
+        assertNull(removed.findById(ALICE_ID));
+        assertEquals(4500, removed.get(0).getSalary());
+    }
+
+    @Test
+    void testMerge_OfCompactPartsStaysCompact() {
+        String carolId = "7e0d9a3c-0000-4000-8000-000000000001";
+        RosterSnapshot first = RosterSnapshot.of(List.of(employee(ALICE_ID, "Alice", 5000, "Engineer", null)))
+                .compact();
+        RosterSnapshot second = RosterSnapshot.of(List.of(
+                        employee(BOB_ID, "Bob", 4000, null, "bob@company.com"),
+                        employee(carolId, "Carol", 6000, "Engineer", null)))
+                .compact();
+
+        RosterSnapshot merged = RosterSnapshot.merge(List.of(first, second));
+
+        assertTrue(merged.isCompact());
+        assertEquals(List.of(ALICE_ID, BOB_ID, carolId), merged.stream().map(EmployeeResponseDto::getId).toList());
+        assertEquals("bob@company.com", merged.findById(BOB_ID).getEmail());
+        assertEquals(6000, merged.findById(carolId).getSalary());
+        assertFalse(RosterSnapshot.merge(List.of(first, RosterSnapshot.of(List.of()))).isCompact());
+    }
+
+    private static EmployeeResponseDto employee(String id, String name, int salary, String title, String email) {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        employee.setAge(30);
+        employee.setTitle(title);
+        employee.setEmail(email);
+        return employee;
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameSuggestionsTest {
+
+    private static final RosterSnapshot ROSTER = RosterSnapshot.of(List.of(
+            employee("1", "Ada Lovelace"),
+            employee("2", "José  Álvarez"),
+            employee("3", "Ann Annabel"),
+            employee("4", "Lorna Doone"),
+            employee("5", null),
+            employee("6", "Mary-Lou Smith"),
+            employee("7", "alan turing")));
+
+    @Test
+    void testSuggest_MatchesAnyWordClosestCompletionFirst() {
+        assertEquals(List.of("4", "6", "1"), ids(ROSTER.suggest("lo", 10)));
+        assertEquals(List.of("1"), ids(ROSTER.suggest("ada lo", 10)));
+        assertEquals(List.of("6"), ids(ROSTER.suggest("lou", 10)));
+        assertEquals(List.of(), ids(ROSTER.suggest("zz", 10)));
+    }
+
+    @Test
+    void testSuggest_IgnoresCaseAccentsAndSpaces() {
+        assertEquals(List.of("2"), ids(ROSTER.suggest("JOSE", 10)));
+        assertEquals(List.of("2"), ids(ROSTER.suggest("alv", 10)));
+        assertEquals(List.of("4", "6", "1"), ids(ROSTER.suggest("  LO ", 10)));
+    }
+
+    @Test
+    void testSuggest_ReturnsEveryEmployeeOnceUpToK() {
+        // "Ann Annabel" has two words starting with "an"
+        assertEquals(List.of("1", "7", "2", "3"), ids(ROSTER.suggest("a", 10)));
+        assertEquals(List.of("3"), ids(ROSTER.suggest("ann", 10)));
+        assertEquals(List.of("1", "7"), ids(ROSTER.suggest("a", 2)));
+    }
+
+    @Test
+    void testSuggest_AgreesWithScanOfAllNames() {
+        String[] words = {"al", "alan", "bob", "bo", "carla", "ana", "anna", "zoë", "Zoe"};
+        Random random = new Random(1);
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            employees.add(employee(String.valueOf(i), name));
+        }
+        RosterSnapshot roster = RosterSnapshot.of(employees);
+
+        for (String prefix : List.of("a", "al", "an", "zo", "bo", "c", "x", "al a")) {
+            String normalized = NameSuggestions.normalize(prefix);
+            long matching = employees.stream()
+                    .map(employee -> " " + NameSuggestions.normalize(employee.getName()))
+                    .filter(name -> name.contains(" " + normalized))
+                    .count();
+            List<EmployeeResponseDto> suggested = roster.suggest(prefix, 50);
+
+            assertEquals(Math.min(50, matching), suggested.size(), prefix);
+            assertEquals(suggested.size(), ids(suggested).stream().distinct().count(), prefix);
+        }
+    }
+
+    private static EmployeeResponseDto employee(String id, String name) {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id);
+        employee.setName(name);
+        return employee;
+    }
+
+    private static List<String> ids(List<EmployeeResponseDto> employees) {
+        return employees.stream().map(EmployeeResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ObjectRosterTest {
+
+    @Test
+    void testChanges_LeaveTheStoreTheyWereMadeFromAsItWas() {
+        RosterStore roster = new ObjectRoster(employeesById(List.of(
+                employee("1", "Alice", 5000), employee("2", "Bob", 4000), employee("3", "Carol", 6000))));
+
+        RosterStore replaced = roster.with(employee("2", "Bob", 4500));
+        RosterStore removed = replaced.without("1");
+        RosterStore added = removed.with(employee("4", "Dan", 3000));
+
+        assertEquals(List.of("1", "2", "3"), ids(roster));
+        assertEquals(4000, roster.findById("2").getSalary());
+        assertEquals(List.of("1", "2", "3"), ids(replaced));
+        assertEquals(4500, replaced.findById("2").getSalary());
+        assertEquals(List.of("2", "3"), ids(removed));
+        assertNull(removed.findById("1"));
+        assertEquals(List.of("2", "3", "4"), ids(added));
+        assertSame(removed, removed.without("1"));
+    }
+
+    @Test
+    void testChanges_AcrossManyChunksMatchAnInsertionOrderedMap() {
+        Random random = new Random(42);
+        Map<String, EmployeeResponseDto> expected = new LinkedHashMap<>();
+        IntStream.range(0, 2000).forEach(i -> expected.put("id-" + i, employee("id-" + i, "Employee " + i, i)));
+        RosterStore roster = new ObjectRoster(new LinkedHashMap<>(expected));
+        RosterStore before = roster;
+
+        for (int change = 0; change < 5000; change++) {
+            String id = "id-" + random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                EmployeeResponseDto employee = employee(id, "Changed " + change, change);
+                roster = roster.with(employee);
+                expected.put(id, employee);
+            } else {
+                roster = roster.without(id);
+                expected.remove(id);
+            }
+        }
+
+        assertEquals(expected.size(), roster.size());
+        assertEquals(List.copyOf(expected.keySet()), ids(roster));
+        for (int i = 0; i < roster.size(); i++) {
+            assertSame(expected.get(roster.get(i).getId()), roster.get(i));
+        }
+        for (Map.Entry<String, EmployeeResponseDto> employee : expected.entrySet()) {
+            assertSame(employee.getValue(), roster.findById(employee.getKey()));
+        }
+        assertEquals(expected, roster.asMap());
+        assertEquals(2000, before.size());
+        assertEquals("Employee 1999", before.findById("id-1999").getName());
+    }
+
+    @Test
+    void testIdsWithTheSameHash_AreKeptApart() {
+        // "Aa" and "BB" have the same hash code, and so have all their concatenations
+        assertEquals(1, Stream.of("AaAa", "AaBB", "BBAa", "BBBB").map(String::hashCode).distinct().count());
+        RosterStore roster = new ObjectRoster(
+                employeesById(List.of(employee("AaAa", "First", 1), employee("BBBB", "Last", 4))));
+
+        roster = roster.with(employee("AaBB", "Second", 2)).with(employee("BBAa", "Third", 3));
+        assertEquals(List.of("AaAa", "BBBB", "AaBB", "BBAa"), ids(roster));
+        assertEquals("Second", roster.findById("AaBB").getName());
+
+        roster = roster.without("AaAa").without("BBAa").with(employee("BBBB", "Changed", 5));
+        assertEquals(List.of("BBBB", "AaBB"), ids(roster));
+        assertNull(roster.findById("AaAa"));
+        assertEquals(5, roster.findById("BBBB").getSalary());
+    }
+
+    private static Map<String, EmployeeResponseDto> employeesById(List<EmployeeResponseDto> employees) {
+        Map<String, EmployeeResponseDto> employeesById = new LinkedHashMap<>();
+        employees.forEach(employee -> employeesById.put(employee.getId(), employee));
+        return employeesById;
+    }
+
+    private static List<String> ids(RosterStore roster) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < roster.size(); i++) {
+            ids.add(roster.get(i).getId());
+        }
+        return ids;
+    }
+
+    private static EmployeeResponseDto employee(String id, String name, int salary) {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RosterIndexTest {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer", null};
+
+    @Test
+    void testSelect_MatchesAFullScanInRosterOrder() {
+        RosterSnapshot roster = roster(2000);
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            EmployeeSearchRequest criteria = new EmployeeSearchRequest();
+            if (random.nextBoolean()) {
+                criteria.setMinSalary(random.nextInt(0, 10_000));
+            }
+            if (random.nextBoolean()) {
+                criteria.setMaxSalary(random.nextInt(0, 10_000));
+            }
+            if (random.nextBoolean()) {
+                criteria.setMinAge(random.nextInt(18, 70));
+            }
+            if (random.nextBoolean()) {
+                criteria.setMaxAge(random.nextInt(18, 70));
+            }
+            if (random.nextInt(3) == 0) {
+                criteria.setTitle(TITLES[random.nextInt(3)].toUpperCase());
+            }
+            if (random.nextInt(5) == 0) {
+                criteria.setNameContains("7");
+            }
+
+            List<String> expected =
+                    roster.stream().filter(criteria::matches).map(EmployeeResponseDto::getId).toList();
+            assertEquals(expected, ids(roster.select(criteria)), criteria.toString());
+            assertEquals(expected, ids(roster.compact().select(criteria)), criteria.toString());
+        }
+    }
+
+    @Test
+    void testSelect_UnknownTitleOrEmptyRangeMatchesNothing() {
+        RosterSnapshot roster = roster(100);
+        EmployeeSearchRequest unknownTitle = new EmployeeSearchRequest();
+        unknownTitle.setTitle("Astronaut");
+        EmployeeSearchRequest emptyRange = new EmployeeSearchRequest();
+        emptyRange.setMinAge(50);
+        emptyRange.setMaxAge(40);
+
+        assertTrue(roster.select(unknownTitle).isEmpty());
+        assertTrue(roster.select(emptyRange).isEmpty());
+        assertEquals(100, roster.select(new EmployeeSearchRequest()).size());
+    }
+
+    private static RosterSnapshot roster(int size) {
+        Random random = new Random(size);
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            EmployeeResponseDto employee = new EmployeeResponseDto();
+            employee.setId("id-" + i);
+            employee.setName("Employee " + i);
+            employee.setSalary(random.nextInt(0, 10_000));
+            employee.setAge(random.nextInt(18, 70));
+            employee.setTitle(TITLES[random.nextInt(TITLES.length)]);
+            employees.add(employee);
+        }
+        return RosterSnapshot.of(employees);
+    }
+
+    private static List<String> ids(List<EmployeeResponseDto> employees) {
+        return employees.stream().map(EmployeeResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RosterSnapshotDeserializerTest {
+
+    private static final TypeReference<ApiResponse<RosterSnapshot>> ROSTER_TYPE = new TypeReference<>() {};
+
+    private static final String ROSTER = """
+            {"data": [
+              {"id": "1", "employee_name": "Alice", "employee_salary": 5000, "employee_age": 30,
+               "employee_title": "Engineer", "employee_email": "alice@company.com"},
+              {"employee_name": "No id"},
+              null,
+              {"id": "2", "employee_name": "Bob", "employee_salary": "4000", "extra": {"nested": [1, 2]}},
+              {"id": "1", "employee_name": "Alice Again", "employee_salary": 6000}
+            ], "status": "Successfully processed request."}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testDeserialize_IndexesEmployeesInRosterOrder() throws Exception {
+        RosterSnapshot roster = objectMapper.readValue(ROSTER, ROSTER_TYPE).getData();
+
+        assertEquals(List.of("1", "2"), roster.stream().map(EmployeeResponseDto::getId).toList());
+        EmployeeResponseDto alice = roster.findById("1");
+        assertEquals("Alice Again", alice.getName());
+        assertEquals(6000, alice.getSalary());
+        assertNull(alice.getEmail());
+        EmployeeResponseDto bob = roster.findById("2");
+        assertEquals("Bob", bob.getName());
+        assertEquals(4000, bob.getSalary());
+    }
+
+    @Test
+    void testDeserialize_ReadsSmile() throws Exception {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        JsonNode tree = objectMapper.readTree(ROSTER);
+
+        RosterSnapshot roster = smileMapper
+                .readValue(smileMapper.writeValueAsBytes(tree), ROSTER_TYPE)
+                .getData();
+
+        assertEquals(2, roster.size());
+        assertEquals(6000, roster.findById("1").getSalary());
+        assertEquals("Bob", roster.findById("2").getName());
+    }
+
+    @Test
+    void testDeserialize_IntoColumnsWhenCompactIsAsked() throws Exception {
+        ObjectMapper compactMapper = objectMapper
+                .copy()
+                .setDefaultAttributes(
+                        ContextAttributes.getEmpty().withSharedAttribute(RosterSnapshotDeserializer.COMPACT, true));
+        ObjectMapper smileMapper = compactMapper.copyWith(new SmileFactory());
+        byte[] smile = smileMapper.writeValueAsBytes(objectMapper.readTree(ROSTER));
+
+        for (RosterSnapshot roster : List.of(
+                compactMapper.readValue(ROSTER, ROSTER_TYPE).getData(),
+                smileMapper.readValue(smile, ROSTER_TYPE).getData())) {
+            assertTrue(roster.isCompact());
+            // The repeated id keeps the place of its first employee, with the fields of the last
+            assertEquals(List.of("1", "2"), roster.stream().map(EmployeeResponseDto::getId).toList());
+            EmployeeResponseDto alice = roster.findById("1");
+            assertEquals("Alice Again", alice.getName());
+            assertEquals(6000, alice.getSalary());
+            assertNull(alice.getTitle());
+            assertEquals("Bob", roster.findById("2").getName());
+            assertEquals(4000, roster.findById("2").getSalary());
+        }
+        assertFalse(objectMapper.readValue(ROSTER, ROSTER_TYPE).getData().isCompact());
+    }
+
+    @Test
+    void testDeserialize_RejectsRosterThatIsNotAnArray() {
+        assertThrows(
+                MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"data\": {\"id\": \"1\"}}", ROSTER_TYPE));
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.InvalidQueryException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SortedViewTest {
+
+    private static final String[] NAMES = {"alice", "Bob", "carl", "ALICE", null};
+
+    @Test
+    void testPage_WalksEveryOrderByValueThenId() {
+        RosterSnapshot roster = roster(300, new Random(3));
+        for (String sortParameter : List.of("name", "-name", "salary", "-salary", "age", "-age")) {
+            EmployeeSort sort = EmployeeSort.parse(sortParameter);
+            List<EmployeeResponseDto> walked = new ArrayList<>();
+            EmployeeCursor cursor = null;
+            do {
+                CursorPage page = roster.page(sort, cursor, 7, employee -> true);
+                walked.addAll(page.content());
+                cursor = page.next();
+            } while (cursor != null);
+
+            List<EmployeeResponseDto> expected = new ArrayList<>(roster);
+            expected.sort(comparator(sort));
+            assertEquals(ids(expected), ids(walked), sortParameter);
+        }
+    }
+
+    @Test
+    void testPage_CursorSurvivesChangesBetweenPages() {
+        RosterSnapshot roster = roster(100, new Random(5));
+        EmployeeSort sort = EmployeeSort.parse("-salary");
+        Set<String> seen = new HashSet<>();
+        EmployeeCursor cursor = null;
+        int page = 0;
+        do {
+            EmployeeCursor after = cursor != null ? EmployeeCursor.decode(cursor.encode()) : null;
+            CursorPage current = roster.page(sort, after, 9, employee -> true);
+            for (EmployeeResponseDto employee : current.content()) {
+                assertTrue(seen.add(employee.getId()), "Repeated " + employee.getId());
+            }
+            cursor = current.next();
+            // Every page removes an employee already seen and adds one ahead of and one behind the cursor
+            if (!current.content().isEmpty()) {
+                roster = roster.without(current.content().get(0).getId())
+                        .with(employee("top-" + page, "Top", Integer.MAX_VALUE, 30))
+                        .with(employee("bottom-" + page, "Bottom", -1, 30));
+            }
+            page++;
+        } while (cursor != null);
+
+        for (EmployeeResponseDto employee : roster) {
+            assertTrue(
+                    seen.contains(employee.getId()) || employee.getId().startsWith("top-"),
+                    "Skipped " + employee.getId());
+        }
+    }
+
+    @Test
+    void testPage_FiltersWithoutShorteningPagesBeforeTheLast() {
+        RosterSnapshot roster = roster(50, new Random(9));
+        EmployeeSort sort = EmployeeSort.parse("age");
+
+        CursorPage page = roster.page(sort, null, 5, employee -> "Bob".equals(employee.getName()));
+
+        assertEquals(5, page.content().size());
+        assertTrue(page.content().stream().allMatch(employee -> "Bob".equals(employee.getName())));
+        assertNotNull(page.next());
+    }
+
+    @Test
+    void testCursor_RoundTripsAndRejectsGarbage() {
+        EmployeeCursor cursor = new EmployeeCursor(EmployeeSort.parse("-name"), "Zoë Ångström", 0, "42");
+
+        assertEquals(cursor, EmployeeCursor.decode(cursor.encode()));
+        assertThrows(InvalidQueryException.class, () -> EmployeeCursor.decode("not a cursor"));
+        assertThrows(InvalidQueryException.class, () -> EmployeeCursor.decode("AAAA"));
+        assertThrows(InvalidQueryException.class, () -> EmployeeSort.parse("email"));
+    }
+
+    private static Comparator<EmployeeResponseDto> comparator(EmployeeSort sort) {
+        Comparator<EmployeeResponseDto> byValue =
+                switch (sort.key()) {
+                    case NAME -> Comparator.comparing(
+                            EmployeeResponseDto::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+                    case SALARY -> Comparator.comparingInt(EmployeeResponseDto::getSalary);
+                    case AGE -> Comparator.comparingInt(EmployeeResponseDto::getAge);
+                };
+        Comparator<EmployeeResponseDto> order = byValue.thenComparing(EmployeeResponseDto::getId);
+        return sort.descending() ? order.reversed() : order;
+    }
+
+    private static RosterSnapshot roster(int size, Random random) {
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            employees.add(employee(
+                    String.valueOf(random.nextInt(1_000_000)),
+                    NAMES[random.nextInt(NAMES.length)],
+                    random.nextInt(20),
+                    random.nextInt(5)));
+        }
+        return RosterSnapshot.of(employees);
+    }
+
+    private static EmployeeResponseDto employee(String id, String name, int salary, int age) {
+        EmployeeResponseDto employee = new EmployeeResponseDto();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        employee.setAge(age);
+        return employee;
+    }
+
+    private static List<String> ids(List<EmployeeResponseDto> employees) {
+        return employees.stream().map(EmployeeResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.EmployeeCreateQueueProperties;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.CreateQueueFullException;
+import com.reliaquest.api.exception.NonRetryableFeignException;
+import com.reliaquest.api.exception.RetryableFeignException;
+import com.reliaquest.api.model.CreateOperation;
+import com.reliaquest.api.model.EmployeeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCreateQueueTest {
+
+    private EmployeeDataService employeeDataService;
+    private EmployeeCreateQueueProperties properties;
+    private EmployeeCreateQueue createQueue;
+
+    @BeforeEach
+    void setUp() {
+        employeeDataService = mock(EmployeeDataService.class);
+        properties = new EmployeeCreateQueueProperties();
+        properties.setCapacity(2);
+        properties.setBurstSize(1);
+        properties.setMaxAttempts(2);
+        // The worker is not started, bursts are drained by the tests
+        createQueue = new EmployeeCreateQueue(employeeDataService, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testSubmit_IsPendingUntilDrained() {
+        EmployeeRequest request = request("Alice");
+        EmployeeResponseDto created = new EmployeeResponseDto();
+        created.setId("1");
+        created.setName("Alice");
+        when(employeeDataService.createEmployee(eq(request), anyString())).thenReturn(created);
+
+        CreateOperation operation = createQueue.submit(request, null);
+        assertEquals(CreateOperation.Status.PENDING, operation.getStatus());
+        verifyNoInteractions(employeeDataService);
+
+        createQueue.drainBurst();
+
+        CreateOperation polled = createQueue.getOperation(operation.getId()).orElseThrow();
+        assertEquals(CreateOperation.Status.SUCCEEDED, polled.getStatus());
+        assertEquals("1", polled.getEmployee().getId());
+    }
+
+    @Test
+    void testDrainBurst_RequeuesWhileUnavailableThenFails() {
+        EmployeeRequest request = request("Alice");
+        when(employeeDataService.createEmployee(eq(request), anyString()))
+                .thenThrow(new RetryableFeignException("503", 503));
+        CreateOperation operation = createQueue.submit(request, null);
+
+        createQueue.drainBurst();
+        assertEquals(
+                CreateOperation.Status.PENDING,
+                createQueue.getOperation(operation.getId()).orElseThrow().getStatus());
+
+        createQueue.drainBurst();
+        assertEquals(
+                CreateOperation.Status.FAILED,
+                createQueue.getOperation(operation.getId()).orElseThrow().getStatus());
+        // Both attempts carry the same key, so the Employee Service applies the create at most once
+        verify(employeeDataService, times(2)).createEmployee(request, operation.getId());
+    }
+
+    @Test
+    void testDrainBurst_DoesNotRetryRejectedCreates() {
+        EmployeeRequest request = request("Alice");
+        when(employeeDataService.createEmployee(eq(request), anyString()))
+                .thenThrow(new NonRetryableFeignException("400", 400));
+        CreateOperation operation = createQueue.submit(request, null);
+
+        createQueue.drainBurst();
+
+        CreateOperation polled = createQueue.getOperation(operation.getId()).orElseThrow();
+        assertEquals(CreateOperation.Status.FAILED, polled.getStatus());
+        assertEquals("400", polled.getError());
+    }
+
+    @Test
+    void testSubmit_ReturnsQueuedOperationForRepeatedKey() {
+        CreateOperation first = createQueue.submit(request("Alice"), "key-1");
+        CreateOperation repeated = createQueue.submit(request("Alice"), "key-1");
+
+        assertEquals(first.getId(), repeated.getId());
+        // The capacity is two, this would be rejected had the repeated create been queued as well
+        createQueue.submit(request("Bob"), null);
+    }
+
+    @Test
+    void testSubmit_RejectsWhenQueueIsFull() {
+        createQueue.submit(request("Alice"), null);
+        createQueue.submit(request("Bob"), null);
+
+        assertThrows(CreateQueueFullException.class, () -> createQueue.submit(request("Carol"), null));
+    }
+
+    private static EmployeeRequest request(String name) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName(name);
+        request.setSalary(1000);
+        request.setAge(30);
+        request.setTitle("Engineer");
+        return request;
+    }
+}
@@ -5,11 +5,31 @@ import static org.mockito.Mockito.*;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeHedgingProperties;
 import com.reliaquest.api.constants.AppConstants;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.NonRetryableFeignException;
+import com.reliaquest.api.exception.RetryableFeignException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.RosterChange;
+import com.reliaquest.api.model.RosterSnapshot;
+import com.reliaquest.api.service.coherence.InMemoryRosterChangeBus;
+import com.reliaquest.api.service.coherence.RosterChangeBus;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 class EmployeeDataServiceTest {
 
@@ -29,7 +50,22 @@ class EmployeeDataServiceTest {
     @Mock
     EmployeeClient employeeClient;
 
-    Cache<String, Map<String, EmployeeResponseDto>> cache;
+    @Mock
+    RosterChangeBus changeBus;
+
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+
+    @Spy
+    EmployeeHedgingProperties hedgingProperties = new EmployeeHedgingProperties();
+
+    @Spy
+    BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    Cache<String, RosterSnapshot> cache;
 
     @BeforeEach
     void setup() {
@@ -54,7 +90,7 @@ class EmployeeDataServiceTest {
         emp.setId("1");
         emp.setName("John");
         cacheMap.put("1", emp);
-        cache.put(AppConstants.CACHE_KEY_ALL, cacheMap);
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(cacheMap.values()));
 
         List<EmployeeResponseDto> result = employeeDataService.getAllEmployees();
 
@@ -73,8 +109,7 @@ class EmployeeDataServiceTest {
         empDto2.setId("2");
         empDto2.setName("Bob");
 
-        ApiResponse<List<EmployeeDto>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(List.of(empDto1, empDto2));
+        ApiResponse<RosterSnapshot> apiResponse = rosterResponse(empDto1, empDto2);
 
         when(employeeClient.getAllEmployees()).thenReturn(apiResponse);
 
@@ -84,7 +119,8 @@ class EmployeeDataServiceTest {
         assertTrue(result.stream().anyMatch(e -> e.getName().equals("Alice")));
         assertTrue(result.stream().anyMatch(e -> e.getName().equals("Bob")));
 
-        Map<String, EmployeeResponseDto> cached = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        Map<String, EmployeeResponseDto> cached =
+                cache.getIfPresent(AppConstants.CACHE_KEY_ALL).asMap();
         assertNotNull(cached);
         assertEquals(2, cached.size());
 
@@ -92,9 +128,49 @@ class EmployeeDataServiceTest {
         verify(employeeClient, times(1)).getAllEmployees();
     }
 
+    @Test
+    void testGetAllEmployees_ReplacesSnapshotWhenRosterChanges() {
+        EmployeeDto existing = new EmployeeDto();
+        existing.setId("1");
+        existing.setName("Alice");
+        when(employeeClient.getAllEmployees()).thenReturn(rosterResponse(existing));
+
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName("Bob");
+        EmployeeDto created = new EmployeeDto();
+        created.setId("2");
+        created.setName("Bob");
+        ApiResponse<EmployeeDto> createResponse = new ApiResponse<>();
+        createResponse.setData(created);
+        when(employeeClient.createEmployee(request, "key-1")).thenReturn(createResponse);
+
+        List<EmployeeResponseDto> first = employeeDataService.getAllEmployees();
+        assertSame(first, employeeDataService.getAllEmployees());
+
+        employeeDataService.createEmployee(request, "key-1");
+        List<EmployeeResponseDto> afterCreate = employeeDataService.getAllEmployees();
+
+        assertNotSame(first, afterCreate);
+        assertEquals(1, first.size());
+        assertEquals(
+                List.of("Alice", "Bob"),
+                afterCreate.stream().map(EmployeeResponseDto::getName).toList());
+    }
+
+    @Test
+    void testGetAllEmployees_RecordsRosterLoadOnlyOnCacheMiss() {
+        ApiResponse<RosterSnapshot> apiResponse = rosterResponse();
+        when(employeeClient.getAllEmployees()).thenReturn(apiResponse);
+
+        employeeDataService.getAllEmployees();
+        employeeDataService.getAllEmployees();
+
+        assertEquals(1, meterRegistry.get("employee.roster.load").timer().count());
+    }
+
     @Test
     void testGetAllEmployees_NullDataFromClient() {
-        ApiResponse<List<EmployeeDto>> apiResponse = new ApiResponse<>();
+        ApiResponse<RosterSnapshot> apiResponse = new ApiResponse<>();
         apiResponse.setData(null);
 
         when(employeeClient.getAllEmployees()).thenReturn(apiResponse);
@@ -105,11 +181,173 @@ class EmployeeDataServiceTest {
         assertTrue(result.isEmpty());
         verify(employeeClient, times(1)).getAllEmployees();
 
-        Map<String, EmployeeResponseDto> cached = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        Map<String, EmployeeResponseDto> cached =
+                cache.getIfPresent(AppConstants.CACHE_KEY_ALL).asMap();
         assertNotNull(cached);
         assertTrue(cached.isEmpty());
     }
 
+    @Test
+    void testGetCachedEmployees_EmptyWhenCacheIsCold() {
+        assertTrue(employeeDataService.getCachedEmployees().isEmpty());
+
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("1");
+        Map<String, EmployeeResponseDto> cacheMap = new ConcurrentHashMap<>();
+        cacheMap.put("1", emp);
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(cacheMap.values()));
+
+        assertEquals(1, employeeDataService.getCachedEmployees().orElseThrow().size());
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    void testGetCachedRosterVersion_ChangesOnlyWithRoster() {
+        assertTrue(employeeDataService.getCachedRosterVersion().isEmpty());
+
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("1");
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(List.of(emp)));
+        long version = employeeDataService.getCachedRosterVersion().getAsLong();
+
+        employeeDataService.getAllEmployees();
+        assertEquals(version, employeeDataService.getCachedRosterVersion().getAsLong());
+
+        ApiResponse<Boolean> apiResponse = new ApiResponse<>();
+        apiResponse.setData(true);
+        EmployeeRequest request = new EmployeeRequest();
+        when(employeeClient.deleteEmployeeByName(request)).thenReturn(apiResponse);
+        employeeDataService.deleteEmployeeByName(request, "1");
+
+        assertTrue(employeeDataService.getCachedRosterVersion().getAsLong() > version);
+    }
+
+    @Test
+    void testStaleRosterFallback_ServesLastGoodRosterAfterCacheExpiry() throws Throwable {
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        empDto.setName("Alice");
+        empDto.setSalary(5000);
+        ApiResponse<RosterSnapshot> apiResponse = rosterResponse(empDto);
+        when(employeeClient.getAllEmployees()).thenReturn(apiResponse);
+        employeeDataService.getAllEmployees();
+        cache.invalidateAll();
+
+        CallNotPermittedException circuitOpen = mock(CallNotPermittedException.class);
+        assertEquals(
+                1,
+                employeeDataService.getAllEmployeesFromStaleRoster(circuitOpen).size());
+        assertEquals(
+                5000,
+                employeeDataService
+                        .getHighestSalaryFromStaleRoster(new RetryableFeignException("503", 503))
+                        .getAsInt());
+        assertEquals(
+                "Alice",
+                employeeDataService
+                        .searchEmployeesInStaleRoster(EmployeeSearchRequest.byName("ali"), circuitOpen)
+                        .get(0)
+                        .getName());
+        assertEquals(
+                2.0,
+                meterRegistry.get("employee.roster.stale.reads").tag("cause", "circuit_open").counters().stream()
+                        .mapToDouble(Counter::count)
+                        .sum());
+        assertEquals(
+                1,
+                employeeDataService
+                        .getTopEarnersFromStaleRoster(1, mock(BulkheadFullException.class))
+                        .size());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("employee.roster.stale.reads")
+                        .tag("cause", "bulkhead_full")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void testStaleRosterFallback_RethrowsWhenNotUnavailableOrTooOld() {
+        ApiResponse<RosterSnapshot> apiResponse = rosterResponse();
+        when(employeeClient.getAllEmployees()).thenReturn(apiResponse);
+        employeeDataService.getAllEmployees();
+
+        NonRetryableFeignException notFound = new NonRetryableFeignException("404", 404);
+        assertSame(
+                notFound,
+                assertThrows(
+                        NonRetryableFeignException.class,
+                        () -> employeeDataService.getAllEmployeesFromStaleRoster(notFound)));
+        assertThrows(
+                RetryableFeignException.class,
+                () -> employeeDataService.getEmployeeByIdFromStaleRoster("1", new RetryableFeignException("503", 503)));
+
+        cacheProperties.setMaxStaleness(Duration.ZERO);
+        EmployeeDataService strictService = new EmployeeDataService(
+                employeeClient,
+                new SimpleMeterRegistry(),
+                cacheProperties,
+                hedgingProperties,
+                bulkheadRegistry,
+                changeBus);
+        strictService.getAllEmployees();
+        assertThrows(
+                RetryableFeignException.class,
+                () -> strictService.getAllEmployeesFromStaleRoster(new RetryableFeignException("503", 503)));
+    }
+
+    @Test
+    void testSearchEmployees_ReturnsMatchesWithoutCaching() {
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        empDto.setName("Alice");
+
+        ApiResponse<List<EmployeeDto>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(List.of(empDto));
+
+        EmployeeSearchRequest criteria = EmployeeSearchRequest.byName("ali");
+        when(employeeClient.searchEmployees(criteria)).thenReturn(apiResponse);
+
+        List<EmployeeResponseDto> result = employeeDataService.searchEmployees(criteria);
+
+        assertEquals(1, result.size());
+        assertEquals("Alice", result.get(0).getName());
+        assertNull(cache.getIfPresent(AppConstants.CACHE_KEY_ALL));
+        verify(employeeClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetHighestSalary_AskedFromClient() {
+        ApiResponse<Integer> apiResponse = new ApiResponse<>();
+        apiResponse.setData(4200);
+        when(employeeClient.getMaxSalary()).thenReturn(apiResponse);
+
+        assertEquals(4200, employeeDataService.getHighestSalary().getAsInt());
+
+        apiResponse.setData(null);
+        assertTrue(employeeDataService.getHighestSalary().isEmpty());
+        verify(employeeClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetTopEarners_AskedFromClient() {
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        empDto.setName("Alice");
+        empDto.setSalary(9000);
+
+        ApiResponse<List<EmployeeDto>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(List.of(empDto));
+        when(employeeClient.getTopEmployees(AppConstants.RANK_BY_SALARY, 10)).thenReturn(apiResponse);
+
+        List<EmployeeResponseDto> result = employeeDataService.getTopEarners(10);
+
+        assertEquals(1, result.size());
+        assertEquals(9000, result.get(0).getSalary());
+        assertNull(cache.getIfPresent(AppConstants.CACHE_KEY_ALL));
+    }
+
     @Test
     void testGetEmployeeById_ReturnsFromCache() {
         EmployeeResponseDto cachedEmp = new EmployeeResponseDto();
@@ -117,7 +355,7 @@ class EmployeeDataServiceTest {
         cachedEmp.setName("CachedName");
         Map<String, EmployeeResponseDto> map = new ConcurrentHashMap<>();
         map.put("123", cachedEmp);
-        cache.put(AppConstants.CACHE_KEY_ALL, map);
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(map.values()));
 
         EmployeeResponseDto result = employeeDataService.getEmployeeById("123");
 
@@ -144,11 +382,88 @@ class EmployeeDataServiceTest {
 
         EmployeeResponseDto cachedEmployeeData = employeeDataService.getEmployeeById("999");
         verify(employeeClient, times(1)).getEmployeeById("999");
-        Map<String, EmployeeResponseDto> cached = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        Map<String, EmployeeResponseDto> cached =
+                cache.getIfPresent(AppConstants.CACHE_KEY_ALL).asMap();
         assertNotNull(cached);
         assertTrue(cached.containsKey("999"));
     }
 
+    @Test
+    void testGetEmployeeById_RemembersUnknownIdUntilCreated() {
+        when(employeeClient.getEmployeeById("404")).thenThrow(new NonRetryableFeignException("404", 404));
+
+        assertThrows(NonRetryableFeignException.class, () -> employeeDataService.getEmployeeById("404"));
+        NonRetryableFeignException cachedMiss =
+                assertThrows(NonRetryableFeignException.class, () -> employeeDataService.getEmployeeById("404"));
+        assertEquals(404, cachedMiss.getStatus());
+        verify(employeeClient, times(1)).getEmployeeById("404");
+
+        EmployeeDto created = new EmployeeDto();
+        created.setId("404");
+        created.setName("Late");
+        ApiResponse<EmployeeDto> createResponse = new ApiResponse<>();
+        createResponse.setData(created);
+        EmployeeRequest request = new EmployeeRequest();
+        when(employeeClient.createEmployee(request, "key-1")).thenReturn(createResponse);
+        employeeDataService.createEmployee(request, "key-1");
+        cache.invalidateAll();
+
+        ApiResponse<EmployeeDto> fetched = new ApiResponse<>();
+        fetched.setData(created);
+        reset(employeeClient);
+        when(employeeClient.getEmployeeById("404")).thenReturn(fetched);
+        assertEquals("Late", employeeDataService.getEmployeeById("404").getName());
+    }
+
+    @Test
+    void testGetEmployeeById_MissOnFetchedRosterIsAuthoritative() {
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        ApiResponse<RosterSnapshot> apiResponse = rosterResponse(empDto);
+        when(employeeClient.getAllEmployees()).thenReturn(apiResponse);
+        employeeDataService.getAllEmployees();
+
+        assertThrows(NonRetryableFeignException.class, () -> employeeDataService.getEmployeeById("2"));
+        verify(employeeClient, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void testGetEmployeeById_MissWithPeersAsksClient() {
+        InMemoryRosterChangeBus bus = new InMemoryRosterChangeBus();
+        bus.join();
+        EmployeeDataService replica = new EmployeeDataService(
+                employeeClient, meterRegistry, cacheProperties, hedgingProperties, bulkheadRegistry, bus);
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        when(employeeClient.getAllEmployees()).thenReturn(rosterResponse(empDto));
+        replica.getAllEmployees();
+        EmployeeDto created = new EmployeeDto();
+        created.setId("2");
+        ApiResponse<EmployeeDto> fetched = new ApiResponse<>();
+        fetched.setData(created);
+        when(employeeClient.getEmployeeById("2")).thenReturn(fetched);
+
+        assertEquals("2", replica.getEmployeeById("2").getId());
+        verify(employeeClient).getEmployeeById("2");
+    }
+
+    @Test
+    void testReadBulkhead_OnlyTakenByCallsToClient() {
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("1");
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(List.of(emp)));
+        Bulkhead readBulkhead = bulkheadRegistry.bulkhead("employeeRead");
+        readBulkhead.changeConfig(BulkheadConfig.custom().maxConcurrentCalls(1).build());
+        readBulkhead.acquirePermission();
+
+        assertEquals(1, employeeDataService.getAllEmployees().size());
+        assertEquals("1", employeeDataService.getEmployeeById("1").getId());
+        assertThrows(BulkheadFullException.class, () -> employeeDataService.getEmployeeById("2"));
+        cache.invalidateAll();
+        assertThrows(BulkheadFullException.class, () -> employeeDataService.getAllEmployees());
+        verifyNoInteractions(employeeClient);
+    }
+
     @Test
     void testCreateEmployee_AddsToCache() {
         EmployeeRequest request = new EmployeeRequest();
@@ -161,18 +476,19 @@ class EmployeeDataServiceTest {
         ApiResponse<EmployeeDto> apiResponse = new ApiResponse<>();
         apiResponse.setData(empDto);
 
-        when(employeeClient.createEmployee(request)).thenReturn(apiResponse);
+        when(employeeClient.createEmployee(request, "key-1")).thenReturn(apiResponse);
 
-        EmployeeResponseDto created = employeeDataService.createEmployee(request);
+        EmployeeResponseDto created = employeeDataService.createEmployee(request, "key-1");
 
         assertNotNull(created);
         assertEquals("NewEmp", created.getName());
 
-        Map<String, EmployeeResponseDto> cached = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        Map<String, EmployeeResponseDto> cached =
+                cache.getIfPresent(AppConstants.CACHE_KEY_ALL).asMap();
         assertNotNull(cached);
         assertTrue(cached.containsKey("777"));
 
-        verify(employeeClient, times(1)).createEmployee(request);
+        verify(employeeClient, times(1)).createEmployee(request, "key-1");
     }
 
     @Test
@@ -189,7 +505,7 @@ class EmployeeDataServiceTest {
         map.put("id1", emp1);
         map.put("id2", emp2);
 
-        cache.put(AppConstants.CACHE_KEY_ALL, map);
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(map.values()));
 
         EmployeeRequest request = new EmployeeRequest();
         request.setName("Name1");
@@ -203,7 +519,8 @@ class EmployeeDataServiceTest {
 
         assertTrue(deleted);
 
-        Map<String, EmployeeResponseDto> cachedAfterDelete = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        Map<String, EmployeeResponseDto> cachedAfterDelete =
+                cache.getIfPresent(AppConstants.CACHE_KEY_ALL).asMap();
         assertNotNull(cachedAfterDelete);
         assertFalse(cachedAfterDelete.containsKey("id1"));
         assertTrue(cachedAfterDelete.containsKey("id2"));
@@ -219,7 +536,7 @@ class EmployeeDataServiceTest {
 
         Map<String, EmployeeResponseDto> map = new ConcurrentHashMap<>();
         map.put("id1", emp1);
-        cache.put(AppConstants.CACHE_KEY_ALL, map);
+        cache.put(AppConstants.CACHE_KEY_ALL, RosterSnapshot.of(map.values()));
 
         EmployeeRequest request = new EmployeeRequest();
         request.setName("Name1");
@@ -232,13 +549,142 @@ class EmployeeDataServiceTest {
         boolean deleted = employeeDataService.deleteEmployeeByName(request, "id1");
 
         assertFalse(deleted);
-        Map<String, EmployeeResponseDto> cachedAfterDelete = cache.getIfPresent(AppConstants.CACHE_KEY_ALL);
+        Map<String, EmployeeResponseDto> cachedAfterDelete =
+                cache.getIfPresent(AppConstants.CACHE_KEY_ALL).asMap();
         assertNotNull(cachedAfterDelete);
         assertTrue(cachedAfterDelete.containsKey("id1"));
 
         verify(employeeClient, times(1)).deleteEmployeeByName(request);
     }
 
+    @Test
+    void testRestoreRoster_WarmsColdCacheOnly() {
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("1");
+        RosterSnapshot persisted = RosterSnapshot.of(List.of(emp), Instant.now().minus(Duration.ofMinutes(5)));
+
+        assertTrue(employeeDataService.restoreRoster(persisted));
+
+        assertSame(persisted, employeeDataService.getAllEmployees());
+        assertSame(persisted, employeeDataService.getLastGoodRoster().orElseThrow());
+        verifyNoInteractions(employeeClient);
+        assertFalse(employeeDataService.restoreRoster(RosterSnapshot.of(List.of(emp))));
+    }
+
+    @Test
+    void testRestoreRoster_SkipsRosterOlderThanMaxStaleness() {
+        RosterSnapshot persisted = RosterSnapshot.of(List.of(), Instant.now().minus(Duration.ofDays(2)));
+
+        assertFalse(employeeDataService.restoreRoster(persisted));
+        assertNull(cache.getIfPresent(AppConstants.CACHE_KEY_ALL));
+        assertTrue(employeeDataService.getLastGoodRoster().isEmpty());
+    }
+
+    @Test
+    void testGetEmployeeById_MissOnRestoredRosterAsksClient() {
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("1");
+        employeeDataService.restoreRoster(RosterSnapshot.of(List.of(emp), Instant.now().minus(Duration.ofMinutes(5))));
+        EmployeeDto created = new EmployeeDto();
+        created.setId("2");
+        ApiResponse<EmployeeDto> fetched = new ApiResponse<>();
+        fetched.setData(created);
+        when(employeeClient.getEmployeeById("2")).thenReturn(fetched);
+
+        assertEquals("2", employeeDataService.getEmployeeById("2").getId());
+        verify(employeeClient).getEmployeeById("2");
+    }
+
+    @Test
+    void testExpireRestoredRoster_KeepsFetchedRoster() {
+        employeeDataService.restoreRoster(RosterSnapshot.of(List.of()));
+
+        employeeDataService.expireRestoredRoster();
+        assertNull(cache.getIfPresent(AppConstants.CACHE_KEY_ALL));
+        assertTrue(employeeDataService.getLastGoodRoster().isPresent());
+
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        when(employeeClient.getAllEmployees()).thenReturn(rosterResponse(empDto));
+        employeeDataService.refreshRoster();
+        employeeDataService.expireRestoredRoster();
+        assertNotNull(cache.getIfPresent(AppConstants.CACHE_KEY_ALL));
+    }
+
+    @Test
+    void testRefreshRoster_ReplacesCachedRoster() {
+        employeeDataService.restoreRoster(RosterSnapshot.of(List.of()));
+        EmployeeDto empDto = new EmployeeDto();
+        empDto.setId("1");
+        when(employeeClient.getAllEmployees()).thenReturn(rosterResponse(empDto));
+
+        employeeDataService.refreshRoster();
+
+        assertEquals(1, employeeDataService.getAllEmployees().size());
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void testCreateAndDelete_ArePublishedToPeers() {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName("Bob");
+        EmployeeDto created = new EmployeeDto();
+        created.setId("2");
+        created.setName("Bob");
+        ApiResponse<EmployeeDto> createResponse = new ApiResponse<>();
+        createResponse.setData(created);
+        when(employeeClient.createEmployee(request, "key-1")).thenReturn(createResponse);
+        ApiResponse<Boolean> deleteResponse = new ApiResponse<>();
+        deleteResponse.setData(true);
+        when(employeeClient.deleteEmployeeByName(request)).thenReturn(deleteResponse);
+
+        employeeDataService.createEmployee(request, "key-1");
+        employeeDataService.deleteEmployeeByName(request, "2");
+
+        verify(changeBus).publish(argThat(change -> change.type() == RosterChange.Type.UPSERT
+                && change.id().equals("2")
+                && change.employee().getName().equals("Bob")));
+        verify(changeBus).publish(RosterChange.remove("2"));
+    }
+
+    @Test
+    void testPeerChanges_AppliedToCachedRosterWithoutFetching() {
+        InMemoryRosterChangeBus busA = new InMemoryRosterChangeBus();
+        EmployeeDataService replicaA = new EmployeeDataService(
+                employeeClient, meterRegistry, cacheProperties, hedgingProperties, bulkheadRegistry, busA);
+        EmployeeDataService replicaB = new EmployeeDataService(
+                employeeClient, meterRegistry, cacheProperties, hedgingProperties, bulkheadRegistry, busA.join());
+        replicaA.subscribeToPeers();
+        replicaB.subscribeToPeers();
+        EmployeeDto existing = new EmployeeDto();
+        existing.setId("1");
+        when(employeeClient.getAllEmployees()).thenReturn(rosterResponse(existing));
+        replicaA.getAllEmployees();
+        replicaB.getAllEmployees();
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName("Bob");
+        EmployeeDto created = new EmployeeDto();
+        created.setId("2");
+        created.setName("Bob");
+        ApiResponse<EmployeeDto> createResponse = new ApiResponse<>();
+        createResponse.setData(created);
+        when(employeeClient.createEmployee(request, "key-1")).thenReturn(createResponse);
+
+        replicaA.createEmployee(request, "key-1");
+
+        assertEquals("Bob", replicaB.getEmployeeById("2").getName());
+        assertEquals(2, replicaB.getAllEmployees().size());
+        verify(employeeClient, times(2)).getAllEmployees();
+        verify(employeeClient, never()).getEmployeeById(any());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("employee.roster.peer.changes")
+                        .tag("type", "upsert")
+                        .counter()
+                        .count());
+    }
+
     @Test
     void testToResponse_MapsCorrectly() {
         EmployeeDto dto = new EmployeeDto();
@@ -258,4 +704,11 @@ class EmployeeDataServiceTest {
         assertEquals("TitleX", response.getTitle());
         assertEquals("email@example.com", response.getEmail());
     }
+
+    // The roster as the client decodes it from the Employee Service
+    private ApiResponse<RosterSnapshot> rosterResponse(EmployeeDto... employees) {
+        ApiResponse<RosterSnapshot> response = new ApiResponse<>();
+        response.setData(RosterSnapshot.of(Arrays.stream(employees).map(employeeDataService::toResponse).toList()));
+        return response;
+    }
 }
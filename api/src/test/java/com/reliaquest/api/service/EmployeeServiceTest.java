@@ -3,18 +3,33 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.config.IdempotencyProperties;
+import com.reliaquest.api.constants.AppConstants;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.IdempotencyKeyReuseException;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.exception.RetryableFeignException;
+import com.reliaquest.api.model.CursorPage;
+import com.reliaquest.api.model.EmployeeCursor;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeSearchRequest;
+import com.reliaquest.api.model.EmployeeSort;
+import com.reliaquest.api.model.EmployeeSuggestion;
+import com.reliaquest.api.model.RosterSnapshot;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 class EmployeeServiceTest {
 
@@ -24,6 +39,9 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeDataService employeeDataService;
 
+    @Spy
+    private IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -43,9 +61,9 @@ class EmployeeServiceTest {
         emp3.setId("3");
         emp3.setName(null);
 
-        List<EmployeeResponseDto> employees = List.of(emp1, emp2, emp3);
+        RosterSnapshot employees = RosterSnapshot.of(List.of(emp1, emp2, emp3));
 
-        when(employeeDataService.getAllEmployees()).thenReturn(employees);
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.of(employees));
 
         List<EmployeeResponseDto> result = employeeService.searchEmployeesByName("Ali");
 
@@ -59,32 +77,68 @@ class EmployeeServiceTest {
         result = employeeService.searchEmployeesByName("Bob");
         assertTrue(result.isEmpty());
 
-        verify(employeeDataService, times(3)).getAllEmployees();
+        verify(employeeDataService, times(3)).getCachedEmployees();
+        verify(employeeDataService, never()).getAllEmployees();
+        verify(employeeDataService, never()).searchEmployees(any());
+    }
+
+    @Test
+    void testSearchEmployeesByName_PushesDownWhenCacheIsCold() {
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("1");
+        emp.setName("Alice");
+
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.empty());
+        when(employeeDataService.searchEmployees(EmployeeSearchRequest.byName("Ali")))
+                .thenReturn(List.of(emp));
+
+        List<EmployeeResponseDto> result = employeeService.searchEmployeesByName("Ali");
+
+        assertEquals(1, result.size());
+        assertEquals("Alice", result.get(0).getName());
+        verify(employeeDataService).searchEmployees(EmployeeSearchRequest.byName("Ali"));
+        verify(employeeDataService, never()).getAllEmployees();
     }
 
     @Test
     void testGetHighestSalary_ReturnsMax() {
         EmployeeResponseDto emp1 = new EmployeeResponseDto();
+        emp1.setId("1");
         emp1.setSalary(1000);
 
         EmployeeResponseDto emp2 = new EmployeeResponseDto();
+        emp2.setId("2");
         emp2.setSalary(2000);
 
         EmployeeResponseDto emp3 = new EmployeeResponseDto();
+        emp3.setId("3");
         emp3.setSalary(1500);
 
-        when(employeeDataService.getAllEmployees()).thenReturn(List.of(emp1, emp2, emp3));
+        when(employeeDataService.getCachedEmployees())
+                .thenReturn(Optional.of(RosterSnapshot.of(List.of(emp1, emp2, emp3))));
 
         OptionalInt maxSalary = employeeService.getHighestSalary();
 
         assertTrue(maxSalary.isPresent());
         assertEquals(2000, maxSalary.getAsInt());
 
-        when(employeeDataService.getAllEmployees()).thenReturn(Collections.emptyList());
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.of(RosterSnapshot.empty()));
         maxSalary = employeeService.getHighestSalary();
         assertTrue(maxSalary.isEmpty());
 
-        verify(employeeDataService, times(2)).getAllEmployees();
+        verify(employeeDataService, times(2)).getCachedEmployees();
+        verify(employeeDataService, never()).getHighestSalary();
+    }
+
+    @Test
+    void testGetHighestSalary_PushesDownWhenCacheIsCold() {
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.empty());
+        when(employeeDataService.getHighestSalary()).thenReturn(OptionalInt.of(3000));
+
+        OptionalInt maxSalary = employeeService.getHighestSalary();
+
+        assertEquals(3000, maxSalary.getAsInt());
+        verify(employeeDataService, never()).getAllEmployees();
     }
 
     @Test
@@ -92,12 +146,13 @@ class EmployeeServiceTest {
         List<EmployeeResponseDto> employees = new ArrayList<>();
         for (int i = 1; i <= 15; i++) {
             EmployeeResponseDto emp = new EmployeeResponseDto();
+            emp.setId(String.valueOf(i));
             emp.setSalary(i * 100);
             emp.setName("Emp" + i);
             employees.add(emp);
         }
 
-        when(employeeDataService.getAllEmployees()).thenReturn(employees);
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.of(RosterSnapshot.of(employees)));
 
         List<String> topTen = employeeService.getTopTenHighestEarningEmployeeNames();
 
@@ -106,11 +161,31 @@ class EmployeeServiceTest {
         assertEquals("Emp6", topTen.get(9));
 
         // Below code is to check when number of employees are less than 10
-        when(employeeDataService.getAllEmployees()).thenReturn(employees.subList(0, 5));
+        when(employeeDataService.getCachedEmployees())
+                .thenReturn(Optional.of(RosterSnapshot.of(employees.subList(0, 5))));
         topTen = employeeService.getTopTenHighestEarningEmployeeNames();
         assertEquals(5, topTen.size());
 
-        verify(employeeDataService, times(2)).getAllEmployees();
+        verify(employeeDataService, times(2)).getCachedEmployees();
+        verify(employeeDataService, never()).getTopEarners(anyInt());
+    }
+
+    @Test
+    void testGetTopTenHighestEarningEmployeeNames_PushesDownWhenCacheIsCold() {
+        EmployeeResponseDto emp1 = new EmployeeResponseDto();
+        emp1.setName("Emp2");
+        emp1.setSalary(200);
+        EmployeeResponseDto emp2 = new EmployeeResponseDto();
+        emp2.setName("Emp1");
+        emp2.setSalary(100);
+
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.empty());
+        when(employeeDataService.getTopEarners(10)).thenReturn(List.of(emp1, emp2));
+
+        List<String> topTen = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        assertEquals(List.of("Emp2", "Emp1"), topTen);
+        verify(employeeDataService, never()).getAllEmployees();
     }
 
     @Test
@@ -123,7 +198,7 @@ class EmployeeServiceTest {
         emp2.setId("2");
         emp2.setName("Bob");
 
-        when(employeeDataService.getAllEmployees()).thenReturn(List.of(emp1, emp2));
+        when(employeeDataService.getAllEmployees()).thenReturn(RosterSnapshot.of(List.of(emp1, emp2)));
 
         EmployeeRequest expectedRequest = new EmployeeRequest();
         expectedRequest.setName("Alice");
@@ -139,7 +214,7 @@ class EmployeeServiceTest {
 
     @Test
     void testDeleteEmployeeById_ThrowsExceptionWhenNotFound() {
-        when(employeeDataService.getAllEmployees()).thenReturn(Collections.emptyList());
+        when(employeeDataService.getAllEmployees()).thenReturn(RosterSnapshot.empty());
 
         EmployeeNotFoundException ex =
                 assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeeById("nonexistent"));
@@ -171,17 +246,83 @@ class EmployeeServiceTest {
         emp.setId("abc");
         emp.setName("NewEmp");
 
-        when(employeeDataService.createEmployee(req)).thenReturn(emp);
+        when(employeeDataService.createEmployee(eq(req), anyString())).thenReturn(emp);
 
-        EmployeeResponseDto result = employeeService.createEmployee(req);
+        EmployeeResponseDto result = employeeService.createEmployee(req, null);
 
         assertEquals(emp, result);
-        verify(employeeDataService).createEmployee(req);
+        verify(employeeDataService).createEmployee(eq(req), anyString());
+    }
+
+    @Test
+    void testCreateEmployee_SameIdempotencyKeyCreatesOnce() {
+        EmployeeRequest req = new EmployeeRequest();
+        req.setName("NewEmp");
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("abc");
+        when(employeeDataService.createEmployee(req, "key-1")).thenReturn(emp);
+
+        assertSame(emp, employeeService.createEmployee(req, "key-1"));
+        assertSame(emp, employeeService.createEmployee(req, "key-1"));
+
+        verify(employeeDataService, times(1)).createEmployee(req, "key-1");
+
+        EmployeeRequest other = new EmployeeRequest();
+        other.setName("OtherEmp");
+        assertThrows(IdempotencyKeyReuseException.class, () -> employeeService.createEmployee(other, "key-1"));
+    }
+
+    @Test
+    void testCreateEmployee_ConcurrentCallsWithSameKeyShareOneCreate() throws Exception {
+        EmployeeRequest req = new EmployeeRequest();
+        req.setName("NewEmp");
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        emp.setId("abc");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeDataService.createEmployee(req, "key-1")).thenAnswer(invocation -> {
+            entered.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return emp;
+        });
+        EmployeeResponseDto[] results = new EmployeeResponseDto[2];
+        Thread first = new Thread(() -> results[0] = employeeService.createEmployee(req, "key-1"));
+        Thread second = new Thread(() -> results[1] = employeeService.createEmployee(req, "key-1"));
+
+        first.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        second.start();
+        // The second call waits for the result of the first, which is still blocked in the Employee Service
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (second.getState() != Thread.State.WAITING) {
+            assertTrue(second.isAlive() && System.nanoTime() < deadline, "second call did not wait for the first");
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertSame(emp, results[0]);
+        assertSame(emp, results[1]);
+        verify(employeeDataService, times(1)).createEmployee(eq(req), anyString());
+    }
+
+    @Test
+    void testCreateEmployee_FailedCreateCanBeRepeatedWithSameKey() {
+        EmployeeRequest req = new EmployeeRequest();
+        req.setName("NewEmp");
+        EmployeeResponseDto emp = new EmployeeResponseDto();
+        when(employeeDataService.createEmployee(req, "key-1"))
+                .thenThrow(new RetryableFeignException("503", 503))
+                .thenReturn(emp);
+
+        assertThrows(RetryableFeignException.class, () -> employeeService.createEmployee(req, "key-1"));
+        assertSame(emp, employeeService.createEmployee(req, "key-1"));
     }
 
     @Test
     void testGetAllEmployees_Delegates() {
-        List<EmployeeResponseDto> employees = List.of(new EmployeeResponseDto());
+        RosterSnapshot employees = RosterSnapshot.of(List.of(new EmployeeResponseDto()));
         when(employeeDataService.getAllEmployees()).thenReturn(employees);
 
         List<EmployeeResponseDto> result = employeeService.getAllEmployees();
@@ -189,4 +330,113 @@ class EmployeeServiceTest {
         assertEquals(employees, result);
         verify(employeeDataService).getAllEmployees();
     }
+
+    @Test
+    void testQueryEmployees_PagesIndexedMatchesOfCachedRoster() {
+        EmployeeSearchRequest criteria = new EmployeeSearchRequest();
+        criteria.setMinSalary(1000);
+        List<EmployeeResponseDto> matches = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EmployeeResponseDto emp = new EmployeeResponseDto();
+            emp.setId(String.valueOf(i));
+            matches.add(emp);
+        }
+        when(employeeDataService.queryCachedEmployees(criteria)).thenReturn(Optional.of(matches));
+
+        EmployeePage page = employeeService.queryEmployees(criteria, 1, 2);
+
+        assertEquals(List.of("2", "3"), page.getContent().stream().map(EmployeeResponseDto::getId).toList());
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertTrue(employeeService.queryEmployees(criteria, 3, 2).getContent().isEmpty());
+        verify(employeeDataService, never()).searchEmployees(any());
+    }
+
+    @Test
+    void testQueryEmployees_ColdCachePushesDown() {
+        EmployeeSearchRequest criteria = new EmployeeSearchRequest();
+        criteria.setTitle("Engineer");
+        when(employeeDataService.queryCachedEmployees(criteria)).thenReturn(Optional.empty());
+        when(employeeDataService.searchEmployees(criteria)).thenReturn(List.of(new EmployeeResponseDto()));
+
+        assertEquals(1, employeeService.queryEmployees(criteria, 0, 10).getTotalElements());
+        verify(employeeDataService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testQueryEmployees_RejectsInvalidPage() {
+        EmployeeSearchRequest criteria = new EmployeeSearchRequest();
+
+        assertThrows(InvalidQueryException.class, () -> employeeService.queryEmployees(criteria, -1, 10));
+        assertThrows(InvalidQueryException.class, () -> employeeService.queryEmployees(criteria, 0, 0));
+        assertThrows(
+                InvalidQueryException.class,
+                () -> employeeService.queryEmployees(criteria, 0, AppConstants.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(employeeDataService);
+    }
+
+    @Test
+    void testSearchEmployeesByNamePage_PagesCachedMatchesByCursor() {
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EmployeeResponseDto employee = new EmployeeResponseDto();
+            employee.setId(String.valueOf(i));
+            employee.setName(i % 2 == 0 ? "Alice " + i : "Bob " + i);
+            employee.setSalary(1000 * (5 - i));
+            employees.add(employee);
+        }
+        when(employeeDataService.getCachedEmployees()).thenReturn(Optional.of(RosterSnapshot.of(employees)));
+        EmployeeSort bySalary = EmployeeSort.parse("salary");
+
+        CursorPage first = employeeService.searchEmployeesByNamePage("alice", bySalary, null, 2);
+        CursorPage second = employeeService.searchEmployeesByNamePage("alice", bySalary, first.next(), 2);
+
+        assertEquals(List.of("4", "2"), first.content().stream().map(EmployeeResponseDto::getId).toList());
+        assertEquals(List.of("0"), second.content().stream().map(EmployeeResponseDto::getId).toList());
+        assertNull(second.next());
+        verify(employeeDataService, never()).searchEmployees(any());
+    }
+
+    @Test
+    void testGetEmployeesPage_RejectsInvalidLimitAndForeignCursor() {
+        EmployeeCursor bySalary = new EmployeeCursor(EmployeeSort.parse("salary"), null, 1000, "1");
+
+        assertThrows(
+                InvalidQueryException.class, () -> employeeService.getEmployeesPage(EmployeeSort.BY_NAME, null, 0));
+        assertThrows(
+                InvalidQueryException.class,
+                () -> employeeService.getEmployeesPage(EmployeeSort.BY_NAME, null, AppConstants.MAX_PAGE_SIZE + 1));
+        assertThrows(
+                InvalidQueryException.class,
+                () -> employeeService.getEmployeesPage(EmployeeSort.BY_NAME, bySalary, 10));
+        verifyNoInteractions(employeeDataService);
+    }
+
+    @Test
+    void testSuggestEmployees_SuggestsFromRoster() {
+        EmployeeResponseDto ada = new EmployeeResponseDto();
+        ada.setId("1");
+        ada.setName("Ada Lovelace");
+        EmployeeResponseDto alan = new EmployeeResponseDto();
+        alan.setId("2");
+        alan.setName("Alan Turing");
+        when(employeeDataService.getAllEmployees()).thenReturn(RosterSnapshot.of(List.of(alan, ada)));
+
+        assertEquals(
+                List.of(new EmployeeSuggestion("1", "Ada Lovelace")), employeeService.suggestEmployees("love", 10));
+        assertEquals(
+                List.of(new EmployeeSuggestion("1", "Ada Lovelace"), new EmployeeSuggestion("2", "Alan Turing")),
+                employeeService.suggestEmployees("a", 10));
+    }
+
+    @Test
+    void testSuggestEmployees_RejectsBlankPrefixAndInvalidK() {
+        assertThrows(InvalidQueryException.class, () -> employeeService.suggestEmployees(null, 10));
+        assertThrows(InvalidQueryException.class, () -> employeeService.suggestEmployees(" ", 10));
+        assertThrows(InvalidQueryException.class, () -> employeeService.suggestEmployees("a", 0));
+        assertThrows(
+                InvalidQueryException.class,
+                () -> employeeService.suggestEmployees("a", AppConstants.MAX_SUGGESTIONS + 1));
+        verifyNoInteractions(employeeDataService);
+    }
 }
@@ -0,0 +1,148 @@
+package com.reliaquest.api.service.coherence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.RosterChange;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RosterChangeBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testInMemory_DeliversToPeersOnly() {
+        InMemoryRosterChangeBus busA = new InMemoryRosterChangeBus();
+        InMemoryRosterChangeBus busB = busA.join();
+        InMemoryRosterChangeBus busC = busB.join();
+        List<RosterChange> receivedByA = new ArrayList<>();
+        List<RosterChange> receivedByC = new ArrayList<>();
+        busA.subscribe(receivedByA::add);
+        busC.subscribe(receivedByC::add);
+
+        busA.publish(RosterChange.remove("1"));
+
+        assertTrue(receivedByA.isEmpty());
+        assertEquals(List.of(RosterChange.remove("1")), receivedByC);
+    }
+
+    @Test
+    void testInMemory_HasPeersOnceJoined() {
+        InMemoryRosterChangeBus bus = new InMemoryRosterChangeBus();
+        assertFalse(bus.hasPeers());
+
+        bus.join();
+
+        assertTrue(bus.hasPeers());
+    }
+
+    @Test
+    void testUdp_ExchangesChangesOverLoopback() throws Exception {
+        InetSocketAddress receiverAddress = freeAddress();
+        InetSocketAddress senderAddress = freeAddress();
+        try (UdpRosterChangeBus receiver =
+                        new UdpRosterChangeBus(receiverAddress, List.of(senderAddress), objectMapper);
+                UdpRosterChangeBus sender =
+                        new UdpRosterChangeBus(senderAddress, List.of(receiverAddress), objectMapper)) {
+            BlockingQueue<RosterChange> received = new LinkedBlockingQueue<>();
+            receiver.subscribe(received::add);
+            EmployeeResponseDto employee = new EmployeeResponseDto();
+            employee.setId("2");
+            employee.setName("Bob");
+            employee.setSalary(4000);
+
+            sender.publish(RosterChange.upsert(employee));
+
+            RosterChange change = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(change);
+            assertEquals(RosterChange.Type.UPSERT, change.type());
+            assertEquals("Bob", change.employee().getName());
+            assertEquals(4000, change.employee().getSalary());
+        }
+    }
+
+    @Test
+    void testUdp_IgnoresOwnChanges() throws Exception {
+        InetSocketAddress selfAddress = freeAddress();
+        InetSocketAddress peerAddress = freeAddress();
+        try (UdpRosterChangeBus peer = new UdpRosterChangeBus(peerAddress, List.of(selfAddress), objectMapper);
+                UdpRosterChangeBus self =
+                        new UdpRosterChangeBus(selfAddress, List.of(selfAddress, peerAddress), objectMapper)) {
+            BlockingQueue<RosterChange> receivedBySelf = new LinkedBlockingQueue<>();
+            BlockingQueue<RosterChange> receivedByPeer = new LinkedBlockingQueue<>();
+            self.subscribe(receivedBySelf::add);
+            peer.subscribe(receivedByPeer::add);
+
+            self.publish(RosterChange.remove("1"));
+
+            assertEquals(RosterChange.remove("1"), receivedByPeer.poll(5, TimeUnit.SECONDS));
+            assertNull(receivedBySelf.poll(200, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void testUdp_IgnoresDatagramsFromOtherAddresses() throws Exception {
+        InetSocketAddress receiverAddress = freeAddress();
+        try (DatagramSocket peer = new DatagramSocket(freeAddress());
+                DatagramSocket stranger = new DatagramSocket(freeAddress());
+                UdpRosterChangeBus receiver = new UdpRosterChangeBus(
+                        receiverAddress, List.of((InetSocketAddress) peer.getLocalSocketAddress()), objectMapper)) {
+            BlockingQueue<RosterChange> received = new LinkedBlockingQueue<>();
+            receiver.subscribe(received::add);
+
+            send(stranger, receiverAddress, removal(1, "1"));
+            send(peer, receiverAddress, removal(2, "2"));
+
+            assertEquals(RosterChange.remove("2"), received.poll(5, TimeUnit.SECONDS));
+            assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void testUdp_IgnoresChangeOlderThanOneApplied() throws Exception {
+        InetSocketAddress receiverAddress = freeAddress();
+        try (DatagramSocket peer = new DatagramSocket(freeAddress());
+                UdpRosterChangeBus receiver = new UdpRosterChangeBus(
+                        receiverAddress, List.of((InetSocketAddress) peer.getLocalSocketAddress()), objectMapper)) {
+            BlockingQueue<RosterChange> received = new LinkedBlockingQueue<>();
+            receiver.subscribe(received::add);
+
+            send(peer, receiverAddress, removal(2, "1"));
+            send(peer, receiverAddress, removal(1, "1"));
+            send(peer, receiverAddress, removal(1, "2"));
+
+            assertEquals(RosterChange.remove("1"), received.poll(5, TimeUnit.SECONDS));
+            assertEquals(RosterChange.remove("2"), received.poll(5, TimeUnit.SECONDS));
+            assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static InetSocketAddress freeAddress() throws SocketException {
+        try (DatagramSocket probe = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            return (InetSocketAddress) probe.getLocalSocketAddress();
+        }
+    }
+
+    private static String removal(long sequence, String id) {
+        return String.format(
+                "{\"origin\":\"peer\",\"sequence\":%d,\"change\":{\"type\":\"REMOVE\",\"id\":\"%s\"}}", sequence, id);
+    }
+
+    private static void send(DatagramSocket socket, InetSocketAddress to, String datagram) throws IOException {
+        byte[] bytes = datagram.getBytes(StandardCharsets.UTF_8);
+        socket.send(new DatagramPacket(bytes, bytes.length, to));
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.service.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestDeadlineTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void testCheck_PassesWithoutDeadlineOrWithTimeLeft() {
+        RequestDeadline.check("lookup");
+        assertTrue(RequestDeadline.remaining().isEmpty());
+
+        RequestDeadline.start(Duration.ofMinutes(1));
+        RequestDeadline.check("lookup");
+        assertTrue(RequestDeadline.remaining().get().isPositive());
+    }
+
+    @Test
+    void testCheck_ThrowsOnceDeadlinePassed() {
+        RequestDeadline.start(Duration.ofMillis(-5));
+
+        assertThrows(DeadlineExceededException.class, () -> RequestDeadline.check("lookup"));
+    }
+
+    @Test
+    void testPropagate_RunsTaskWithDeadlineOfCaller() {
+        RequestDeadline.start(Duration.ofMinutes(1));
+        Supplier<Boolean> hasDeadline =
+                RequestDeadline.propagate(() -> RequestDeadline.remaining().isPresent());
+
+        assertTrue(CompletableFuture.supplyAsync(hasDeadline).join());
+        assertFalse(CompletableFuture.supplyAsync(() -> RequestDeadline.remaining().isPresent())
+                .join());
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.service.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeHedgingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch releaseFirst = new CountDownLatch(1);
+    private EmployeeHedgingProperties properties;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeHedgingProperties();
+        properties.setEnabled(true);
+        properties.setDelay(Duration.ofMillis(10));
+        properties.setPercentile(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirst.countDown();
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void testCall_HedgeAnswersWhenFirstRequestStalls() {
+        properties.setBudgetPercent(100);
+        hedger = new RequestHedger(properties, meterRegistry);
+
+        assertEquals("second", hedger.call(firstStalls()));
+        assertEquals(1.0, hedgeCount("sent"));
+        assertEquals(1.0, hedgeCount("won"));
+    }
+
+    @Test
+    void testCall_NoHedgeWithoutBudget() {
+        properties.setBudgetPercent(0);
+        hedger = new RequestHedger(properties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.call(() -> {
+            calls.incrementAndGet();
+            sleep(50);
+            return "first";
+        });
+
+        assertEquals("first", result);
+        assertEquals(1, calls.get());
+        assertEquals(1.0, hedgeCount("denied"));
+    }
+
+    @Test
+    void testCall_RunsInlineWhenDisabled() {
+        properties.setEnabled(false);
+        hedger = new RequestHedger(properties, meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, hedger.call(Thread::currentThread));
+    }
+
+    @Test
+    void testCall_RethrowsFailureOfRequest() {
+        hedger = new RequestHedger(properties, meterRegistry);
+
+        IllegalArgumentException failure = new IllegalArgumentException("404");
+        assertSame(failure, assertThrows(IllegalArgumentException.class, () -> hedger.call(() -> {
+            throw failure;
+        })));
+    }
+
+    private Supplier<String> firstStalls() {
+        AtomicInteger calls = new AtomicInteger();
+        return () -> {
+            if (calls.incrementAndGet() == 1) {
+                await(releaseFirst);
+                return "first";
+            }
+            return "second";
+        };
+    }
+
+    private double hedgeCount(String result) {
+        return meterRegistry
+                .get("employee.lookup.hedges")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
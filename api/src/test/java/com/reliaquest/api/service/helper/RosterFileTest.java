@@ -0,0 +1,57 @@
+package com.reliaquest.api.service.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.model.RosterSnapshot;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteThenRead_KeepsEmployeesAndFetchTime() throws Exception {
+        EmployeeResponseDto alice = new EmployeeResponseDto();
+        alice.setId("1");
+        alice.setName("Alice");
+        alice.setSalary(5000);
+        alice.setAge(30);
+        alice.setTitle("Engineer");
+        alice.setEmail("alice@company.com");
+        EmployeeResponseDto bob = new EmployeeResponseDto();
+        bob.setId("2");
+        Instant fetchedAt = Instant.now().minus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+        Path file = directory.resolve("nested").resolve("roster.bin");
+
+        RosterFile.write(file, RosterSnapshot.of(List.of(alice, bob), fetchedAt));
+        RosterSnapshot restored = RosterFile.read(file).orElseThrow();
+
+        assertEquals(fetchedAt, restored.fetchedAt());
+        assertEquals(List.of("1", "2"), restored.stream().map(EmployeeResponseDto::getId).toList());
+        EmployeeResponseDto restoredAlice = restored.findById("1");
+        assertEquals("Alice", restoredAlice.getName());
+        assertEquals(5000, restoredAlice.getSalary());
+        assertEquals(30, restoredAlice.getAge());
+        assertEquals("Engineer", restoredAlice.getTitle());
+        assertEquals("alice@company.com", restoredAlice.getEmail());
+        assertNull(restored.findById("2").getName());
+        assertEquals(List.of(file), Files.list(file.getParent()).toList());
+    }
+
+    @Test
+    void testRead_EmptyWhenFileMissingOrUnreadable() throws Exception {
+        Path file = directory.resolve("roster.bin");
+        assertTrue(RosterFile.read(file).isEmpty());
+
+        Files.writeString(file, "not a roster");
+        assertTrue(RosterFile.read(file).isEmpty());
+    }
+}
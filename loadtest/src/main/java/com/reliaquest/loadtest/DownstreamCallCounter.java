@@ -0,0 +1,43 @@
+package com.reliaquest.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Added to the mock server's application context to count the calls the API makes downstream, per route and
+ * response status. Throttled calls show up with status 429.
+ */
+public class DownstreamCallCounter extends OncePerRequestFilter {
+
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            String route = UUID_SEGMENT.matcher(request.getRequestURI()).replaceAll("/{id}");
+            String key = request.getMethod() + " " + route + " " + response.getStatus();
+            calls.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    Map<String, Long> snapshot() {
+        Map<String, Long> counts = new TreeMap<>();
+        calls.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Employee ids known to exist, to read and delete. Completion threads add the ids of created employees while the
+ * scheduler thread picks from it.
+ */
+final class IdPool {
+
+    private final List<String> ids;
+
+    IdPool(Collection<String> initialIds) {
+        this.ids = new ArrayList<>(initialIds);
+    }
+
+    synchronized void add(String id) {
+        ids.add(id);
+    }
+
+    synchronized String pick(Random random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * Removes and returns a random id so it is not deleted twice, or {@code null} when the pool is empty.
+     */
+    synchronized String take(Random random) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = random.nextInt(ids.size());
+        String id = ids.get(index);
+        ids.set(index, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+        return id;
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.loadtest;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the API module in its own class loader. Both modules ship an {@code application.yml} at the classpath root and
+ * auto-configure from what they find on their classpath, so sharing one class loader with the mock server would mix
+ * up their configuration.
+ */
+final class IsolatedApiApplication implements AutoCloseable {
+
+    private static final String API_APPLICATION = "com.reliaquest.api.ApiApplication";
+    private static final String SPRING_APPLICATION = "org.springframework.boot.SpringApplication";
+    private static final String TOMCAT_URL_HANDLER_FACTORY =
+            "org.apache.catalina.webresources.TomcatURLStreamHandlerFactory";
+
+    private final URLClassLoader classLoader;
+    private final AutoCloseable context;
+
+    private IsolatedApiApplication(URLClassLoader classLoader, AutoCloseable context) {
+        this.classLoader = classLoader;
+        this.context = context;
+    }
+
+    static IsolatedApiApplication start(String classpath, String... args) throws Exception {
+        URLClassLoader classLoader =
+                new URLClassLoader("employee-api", toUrls(classpath), ClassLoader.getPlatformClassLoader());
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            // The mock server's Tomcat already installed the JVM-wide URL handler factory, a second one would fail
+            classLoader
+                    .loadClass(TOMCAT_URL_HANDLER_FACTORY)
+                    .getMethod("disable")
+                    .invoke(null);
+            Class<?> application = classLoader.loadClass(API_APPLICATION);
+            Object context = classLoader
+                    .loadClass(SPRING_APPLICATION)
+                    .getMethod("run", Class.class, String[].class)
+                    .invoke(null, application, args);
+            // ConfigurableApplicationContext is Closeable, which the boot class loader shares with us
+            return new IsolatedApiApplication(classLoader, (AutoCloseable) context);
+        } catch (Exception e) {
+            classLoader.close();
+            throw e;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            context.close();
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    private static URL[] toUrls(String classpath) throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (!entry.isBlank()) {
+                urls.add(Path.of(entry).toUri().toURL());
+            }
+        }
+        return urls.toArray(URL[]::new);
+    }
+}
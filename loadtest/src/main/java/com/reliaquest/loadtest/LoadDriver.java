@@ -0,0 +1,231 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open-model load generator: requests are started on a fixed schedule no matter how many are still outstanding, and
+ * each latency is measured from the request's scheduled start rather than from when it was actually sent. A stalled
+ * API therefore shows up as queueing delay in the histograms instead of silently lowering the offered load
+ * (coordinated omission).
+ */
+@Slf4j
+final class LoadDriver {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] SEARCH_FRAGMENTS = {"an", "el", "ar", "in", "on", "ma", "li", "er", "jo", "sa"};
+    private static final Duration DRAIN_GRACE = Duration.ofSeconds(5);
+
+    private final LoadTestConfig config;
+    private final URI baseUri;
+    private final IdPool ids;
+    private final DownstreamCallCounter downstreamCalls;
+    private final Random random;
+    private final HttpClient httpClient;
+    private final ExecutorService completionExecutor;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> totals = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+
+    LoadDriver(LoadTestConfig config, URI baseUri, IdPool ids, DownstreamCallCounter downstreamCalls) {
+        this.config = config;
+        this.baseUri = baseUri;
+        this.ids = ids;
+        this.downstreamCalls = downstreamCalls;
+        this.random = new Random(config.seed());
+        this.completionExecutor = Executors.newCachedThreadPool(daemonThreads("load-client"));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.requestTimeout())
+                .executor(completionExecutor)
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            totals.put(operation, new Histogram(3));
+        }
+    }
+
+    LoadResult run(HistogramLogWriter histogramLog) throws InterruptedException {
+        long startMillis = System.currentTimeMillis();
+        histogramLog.outputLogFormatVersion();
+        histogramLog.outputStartTime(startMillis);
+        histogramLog.setBaseTime(startMillis);
+        histogramLog.outputLegend();
+
+        ScheduledExecutorService intervalLogger =
+                Executors.newSingleThreadScheduledExecutor(daemonThreads("load-histogram-log"));
+        intervalLogger.scheduleAtFixedRate(() -> logInterval(histogramLog), 1, 1, TimeUnit.SECONDS);
+
+        log.info("Starting {} requests/s for {}", config.rate(), config.duration());
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long end = start + config.duration().toNanos();
+        long sent = 0;
+        for (long intendedStart = start; intendedStart < end; intendedStart += periodNanos) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(intendedStart);
+            sent++;
+        }
+
+        long drainDeadline =
+                System.nanoTime() + config.requestTimeout().plus(DRAIN_GRACE).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        if (inFlight.get() > 0) {
+            log.warn("{} requests still outstanding after the drain timeout", inFlight.get());
+        }
+
+        intervalLogger.shutdown();
+        intervalLogger.awaitTermination(5, TimeUnit.SECONDS);
+        logInterval(histogramLog);
+        completionExecutor.shutdownNow();
+
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((key, count) -> errorCounts.put(key, count.sum()));
+        return new LoadResult(sent, completed.sum(), elapsed, totals, errorCounts, downstreamCalls.snapshot());
+    }
+
+    private void send(long intendedStart) {
+        Operation operation = nextOperation();
+        HttpRequest request = nextRequest(operation);
+        if (request == null) {
+            // Nothing left to delete, keep the arrival rate by reading instead
+            operation = Operation.READ;
+            request = nextRequest(operation);
+        }
+        Operation sentOperation = operation;
+        inFlight.incrementAndGet();
+        httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> complete(sentOperation, intendedStart, response, failure));
+    }
+
+    private void complete(Operation operation, long intendedStart, HttpResponse<String> response, Throwable failure) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+        recorders.get(operation).recordValue(latencyMicros);
+        if (failure != null) {
+            Throwable cause =
+                    failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            countError(operation, cause.getClass().getSimpleName());
+        } else if (response.statusCode() >= 400) {
+            countError(operation, "HTTP " + response.statusCode());
+        } else if (operation == Operation.CREATE) {
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            if (matcher.find()) {
+                ids.add(matcher.group(1));
+            }
+        }
+        completed.increment();
+        inFlight.decrementAndGet();
+    }
+
+    private void countError(Operation operation, String reason) {
+        errors.computeIfAbsent(operation.tag() + " " + reason, ignored -> new LongAdder())
+                .increment();
+    }
+
+    private Operation nextOperation() {
+        int total = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> weight : config.mix().entrySet()) {
+            pick -= weight.getValue();
+            if (pick < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Operation mix is empty");
+    }
+
+    /**
+     * Reads are spread over the lookup by id (40%), the full roster (20%) and the two salary aggregates (20% each).
+     */
+    private HttpRequest nextRequest(Operation operation) {
+        return switch (operation) {
+            case READ -> {
+                int pick = random.nextInt(100);
+                String id = ids.pick(random);
+                if (pick < 40 && id != null) {
+                    yield get("/employees/" + id);
+                } else if (pick < 60) {
+                    yield get("/employees");
+                } else if (pick < 80) {
+                    yield get("/employees/highestSalary");
+                }
+                yield get("/employees/topTenHighestEarningEmployeeNames");
+            }
+            case SEARCH -> get("/employees/search/" + SEARCH_FRAGMENTS[random.nextInt(SEARCH_FRAGMENTS.length)]);
+            case CREATE -> request("/employees")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            """
+                            {"name":"Load Test %d","salary":%d,"age":%d,"title":"Load Tester"}"""
+                                    .formatted(
+                                            random.nextInt(1_000_000),
+                                            random.nextInt(30000, 500000),
+                                            random.nextInt(18, 70))))
+                    .build();
+            case DELETE -> {
+                String id = ids.take(random);
+                yield id == null ? null : request("/employees/" + id).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(config.requestTimeout());
+    }
+
+    private synchronized void logInterval(HistogramLogWriter histogramLog) {
+        recorders.forEach((operation, recorder) -> {
+            Histogram interval = recorder.getIntervalHistogram();
+            totals.get(operation).add(interval);
+            if (interval.getTotalCount() > 0) {
+                interval.setTag(operation.tag());
+                histogramLog.outputIntervalHistogram(interval);
+            }
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of a load run. Latencies are in microseconds, measured from the time each request was scheduled to start.
+ *
+ * @param sent requests started
+ * @param completed requests that finished, successfully or not, before the drain timeout
+ * @param elapsed time from the first scheduled request to the end of the drain
+ * @param latencies latency histogram per operation
+ * @param errors failed requests per operation and status code or exception
+ * @param downstreamCalls calls the API made to the mock server per route and status
+ */
+record LoadResult(
+        long sent,
+        long completed,
+        Duration elapsed,
+        Map<Operation, Histogram> latencies,
+        Map<String, Long> errors,
+        Map<String, Long> downstreamCalls) {
+
+    Histogram overall() {
+        Histogram overall = new Histogram(3);
+        latencies.values().forEach(overall::add);
+        return overall;
+    }
+
+    double throughput() {
+        return completed / (elapsed.toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the mock server in-process and the API in an isolated class loader pointed at it, drives the API according to
+ * {@link LoadTestConfig} and writes {@code latency.hlog} (HdrHistogram interval log, tagged per operation) and
+ * {@code summary.txt} to the output directory.
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Files.createDirectories(config.outputDir());
+        int serverPort = freePort();
+        int apiPort = freePort();
+
+        try (ConfigurableApplicationContext server = new SpringApplicationBuilder(
+                                ServerApplication.class, DownstreamCallCounter.class)
+                        .run(
+                                "--server.port=" + serverPort,
+                                "--mock.employees.max=" + config.employees(),
+                                "--mock.request-limit.max-requests=" + config.rateLimitRequests(),
+                                "--mock.request-limit.backoff=" + config.rateLimitBackoff(),
+                                "--logging.level.com.reliaquest=WARN");
+                IsolatedApiApplication ignored = IsolatedApiApplication.start(
+                        config.apiClasspath(),
+                        "--server.port=" + apiPort,
+                        "--employee.service.baseUrl=http://localhost:" + serverPort + "/api/v1/employee",
+                        "--logging.level.com.reliaquest=WARN")) {
+            IdPool ids = new IdPool(server.getBean(MockEmployeeService.class).getMockEmployees().stream()
+                    .map(MockEmployee::getId)
+                    .map(String::valueOf)
+                    .toList());
+            LoadDriver driver = new LoadDriver(
+                    config,
+                    URI.create("http://localhost:" + apiPort),
+                    ids,
+                    server.getBean(DownstreamCallCounter.class));
+
+            LoadResult result;
+            try (PrintStream histogramLog =
+                    new PrintStream(Files.newOutputStream(config.outputDir().resolve("latency.hlog")))) {
+                result = driver.run(new HistogramLogWriter(histogramLog));
+            }
+            writeSummary(config, result, config.outputDir().resolve("summary.txt"));
+        }
+        System.exit(0);
+    }
+
+    private static void writeSummary(LoadTestConfig config, LoadResult result, Path file) throws IOException {
+        StringBuilder summary = new StringBuilder()
+                .append("Load test: ")
+                .append(config.rate())
+                .append(" requests/s for ")
+                .append(config.duration())
+                .append(", mix ")
+                .append(config.mix())
+                .append(", ")
+                .append(config.employees())
+                .append(" employees, downstream limit ")
+                .append(config.rateLimitRequests())
+                .append(" requests then ")
+                .append(config.rateLimitBackoff())
+                .append(" backoff\n\n")
+                .append("Sent %d, completed %d in %s, throughput %.1f requests/s%n%n"
+                        .formatted(result.sent(), result.completed(), result.elapsed(), result.throughput()))
+                .append("Latency in ms, corrected for coordinated omission:\n")
+                .append("%-10s %10s %10s %10s %10s %10s%n"
+                        .formatted("operation", "count", "p50", "p99", "p99.9", "max"));
+        appendLatency(summary, "all", result.overall());
+        result.latencies().forEach((operation, histogram) -> appendLatency(summary, operation.tag(), histogram));
+        appendCounts(summary, "Errors", result.errors());
+        appendCounts(summary, "Downstream calls", result.downstreamCalls());
+
+        Files.writeString(file, summary);
+        log.info("Load test finished, results in {}\n{}", file.getParent(), summary);
+    }
+
+    private static void appendLatency(StringBuilder summary, String operation, Histogram histogram) {
+        summary.append("%-10s %10d %10.2f %10.2f %10.2f %10.2f%n"
+                .formatted(
+                        operation,
+                        histogram.getTotalCount(),
+                        histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                        histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                        histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                        histogram.getMaxValue() / MICROS_PER_MILLI));
+    }
+
+    private static void appendCounts(StringBuilder summary, String title, Map<String, Long> counts) {
+        summary.append('\n').append(title).append(":\n");
+        if (counts.isEmpty()) {
+            summary.append("  none\n");
+        }
+        counts.forEach((key, count) -> summary.append("  %-50s %10d%n".formatted(key, count)));
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadTest.*} system properties (the Gradle task forwards matching project
+ * properties).
+ *
+ * @param rate requests started per second, independent of how fast responses come back
+ * @param duration how long requests are started for
+ * @param mix relative weight of each operation
+ * @param employees roster size of the mock server ({@code mock.employees.max})
+ * @param rateLimitRequests requests the mock server accepts before it starts throttling
+ * @param rateLimitBackoff how long the mock server throttles once the limit is reached
+ * @param requestTimeout client side timeout, a request exceeding it is reported as an error
+ * @param seed seed for the operation mix and request parameters
+ * @param outputDir directory the histogram log and summary are written to
+ * @param apiClasspath runtime classpath of the API module
+ */
+record LoadTestConfig(
+        int rate,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int employees,
+        int rateLimitRequests,
+        Duration rateLimitBackoff,
+        Duration requestTimeout,
+        long seed,
+        Path outputDir,
+        String apiClasspath) {
+
+    private static final String PREFIX = "loadTest.";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.parseInt(property("rate", "100")),
+                Duration.parse(property("duration", "PT30S")),
+                parseMix(property("mix", "read:70,search:20,create:5,delete:5")),
+                Integer.parseInt(property("employees", "1000")),
+                Integer.parseInt(property("rateLimitRequests", "1000")),
+                Duration.parse(property("rateLimitBackoff", "PT5S")),
+                Duration.parse(property("requestTimeout", "PT10S")),
+                Long.parseLong(property("seed", "42")),
+                Path.of(property("outputDir", "build/reports/loadtest")),
+                required("apiClasspath"));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <operation>:<weight>");
+            }
+            weights.put(Operation.fromTag(parts[0]), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("System property " + PREFIX + name + " is required");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Kinds of API requests the load driver mixes. Reads are spread over the read endpoints, see {@link LoadDriver}.
+ */
+enum Operation {
+    READ,
+    SEARCH,
+    CREATE,
+    DELETE;
+
+    String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation fromTag(String tag) {
+        return valueOf(tag.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,11 +1,12 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -25,19 +28,51 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    /*
+     * Both unset by default, in which case the limit and backoff are chosen randomly on startup.
+     */
+    @Value("${mock.request-limit.max-requests:#{null}}")
+    private Integer requestLimit;
+
+    @Value("${mock.request-limit.backoff:#{null}}")
+    private Duration requestBackoff;
+
+    /*
+     * Which shard of the mock API this instance is, see ShardRange. A single instance by default.
+     */
+    @Bean
+    public ShardRange shardRange(
+            @Value("${mock.shard.index:0}") int shardIndex, @Value("${mock.shard.count:1}") int shardCount) {
+        final var shardRange = new ShardRange(shardIndex, shardCount);
+        if (shardCount > 1) {
+            log.info("Serving the employees of {}", shardRange);
+        }
+        return shardRange;
+    }
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Lets clients ask for binary Smile with Accept: application/x-jackson-smile instead of JSON. Built from Spring
+     * Boot's builder, so it is configured like the JSON mapper, and picked up by Spring Boot next to the JSON converter.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /*
+     * This list is modifiable by design for CRUD operations. Each shard generates maxEmployees of its own.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public List<MockEmployee> mockEmployees(
+            Faker faker, ShardRange shardRange, @Value("${mock.employees.max:20}") int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
+                Field.field("id", shardRange::randomId),
                 Field.field("name", () -> faker.name().fullName()),
                 Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
                 Field.field("age", () -> faker.number().numberBetween(16, 70)),
@@ -54,6 +89,11 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (requestLimit != null && requestBackoff != null) {
+            log.info("Limiting to {} requests with a backoff of {}", requestLimit, requestBackoff);
+            registry.addInterceptor(new RandomRequestLimitInterceptor(requestLimit, requestBackoff));
+        } else {
+            registry.addInterceptor(new RandomRequestLimitInterceptor());
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.reliaquest.server.config;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+
+/**
+ * The employees this instance owns when the mock API runs as several shards. The high 32 bits of an employee's UUID,
+ * read as an unsigned number, are split into {@code count} equal ranges, and shard {@code index} owns the employees
+ * whose id falls into the index-th range. The API computes the same ranges to route lookups by id. A single instance
+ * is shard 0 of 1 and owns every id.
+ */
+@Getter
+public class ShardRange {
+
+    private static final long ID_SPACE = 1L << 32;
+
+    private final int index;
+    private final int count;
+    // Owned values of the high 32 bits, lowest inclusive and highest exclusive
+    private final long lowest;
+    private final long highest;
+
+    public ShardRange(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+        this.index = index;
+        this.count = count;
+        this.lowest = ceilDiv(index * ID_SPACE, count);
+        this.highest = ceilDiv((index + 1) * ID_SPACE, count);
+    }
+
+    public static int shardOf(UUID id, int count) {
+        return (int) (((id.getMostSignificantBits() >>> 32) * count) >>> 32);
+    }
+
+    /**
+     * A random (version 4) UUID owned by this shard. Only the high 32 bits are drawn from the range, they are random
+     * in a version 4 UUID anyway and hold none of its version or variant bits.
+     */
+    public UUID randomId() {
+        final var random = UUID.randomUUID();
+        final long high = ThreadLocalRandom.current().nextLong(lowest, highest);
+        return new UUID(
+                (high << 32) | (random.getMostSignificantBits() & 0xFFFFFFFFL), random.getLeastSignificantBits());
+    }
+
+    @Override
+    public String toString() {
+        return "shard " + index + " of " + count;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -4,6 +4,7 @@ import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.SearchMockEmployeeInput;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -16,7 +17,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +27,39 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final String SORT_BY_SALARY = "salary";
+
     private final MockEmployeeService mockEmployeeService;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(SearchMockEmployeeInput input) {
+        if (isInverted(input.getMinSalary(), input.getMaxSalary())) {
+            return ResponseEntity.badRequest().body(Response.error("minSalary must not be above maxSalary"));
+        }
+        if (isInverted(input.getMinAge(), input.getMaxAge())) {
+            return ResponseEntity.badRequest().body(Response.error("minAge must not be above maxAge"));
+        }
+        if (input.hasCriteria()) {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.search(input)));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    @GetMapping("/stats/max-salary")
+    public Response<Integer> getMaxSalary() {
+        return Response.handledWith(mockEmployeeService.findMaxSalary().orElse(null));
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<Response<List<MockEmployee>>> getTopEmployees(
+            @RequestParam("by") String by, @RequestParam("k") int k) {
+        if (!SORT_BY_SALARY.equalsIgnoreCase(by)) {
+            return ResponseEntity.badRequest().body(Response.error("Unsupported ranking attribute: " + by));
+        }
+        if (k < 1) {
+            return ResponseEntity.badRequest().body(Response.error("k must be at least 1"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.findTopBySalary(k)));
     }
 
     @GetMapping("/{id}")
@@ -40,12 +71,18 @@ public class MockEmployeeController {
     }
 
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        return Response.handledWith(mockEmployeeService.create(input, idempotencyKey));
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static boolean isInverted(Integer min, Integer max) {
+        return min != null && max != null && min > max;
+    }
 }
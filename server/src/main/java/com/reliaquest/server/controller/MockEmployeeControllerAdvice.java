@@ -2,7 +2,10 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -10,6 +13,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    /*
+     * Query parameters that are not numbers, like minSalary=abc, or request bodies that fail validation.
+     */
+    @ExceptionHandler({BindException.class, TypeMismatchException.class, MissingServletRequestParameterException.class})
+    protected ResponseEntity<?> handleInvalidRequest(Exception ex) {
+        log.debug("Invalid web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
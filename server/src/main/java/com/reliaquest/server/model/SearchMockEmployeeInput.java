@@ -0,0 +1,26 @@
+package com.reliaquest.server.model;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.Data;
+
+@Data
+public class SearchMockEmployeeInput {
+
+    private String nameContains;
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private String title;
+
+    public boolean hasCriteria() {
+        return Stream.of(nameContains, minSalary, maxSalary, minAge, maxAge, title)
+                .anyMatch(Objects::nonNull);
+    }
+}
@@ -1,14 +1,30 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.config.ShardRange;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SearchMockEmployeeInput;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +38,248 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
+    private final ShardRange shardRange;
+
     private final List<MockEmployee> mockEmployees;
 
+    /*
+     * Secondary indexes over mockEmployees, maintained on every create/delete so filtered lookups
+     * do not have to scan the whole list. Guarded by lock together with the list itself.
+     */
+    private final Map<UUID, MockEmployee> employeesById = new HashMap<>();
+    private final NavigableMap<Integer, Set<UUID>> salaryIndex = new TreeMap<>();
+    private final NavigableMap<Integer, Set<UUID>> ageIndex = new TreeMap<>();
+    private final Map<String, Set<UUID>> titleIndex = new HashMap<>();
+
+    /*
+     * Employees created per Idempotency-Key, so that a create sent again with the same key is not applied twice.
+     * Bounded, the oldest keys are forgotten first. Guarded by the write lock.
+     */
+    private static final int MAX_IDEMPOTENCY_KEYS = 10_000;
+
+    private final Map<String, MockEmployee> createdByIdempotencyKey = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MockEmployee> eldest) {
+            return size() > MAX_IDEMPOTENCY_KEYS;
+        }
+    };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    void buildIndexes() {
+        lock.writeLock().lock();
+        try {
+            mockEmployees.forEach(this::index);
+            log.debug("Indexed {} employees", employeesById.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(mockEmployees);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(employeesById.get(uuid));
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
-    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+    /**
+     * Evaluates the given criteria against the secondary indexes. The most selective indexed predicate
+     * (title, salary range or age range) produces the candidate set, and the remaining predicates,
+     * including the unindexed name fragment, are checked against each candidate.
+     */
+    public List<MockEmployee> search(@NonNull SearchMockEmployeeInput input) {
+        final Predicate<MockEmployee> matches = toPredicate(input);
+        lock.readLock().lock();
+        try {
+            final List<Collection<UUID>> candidateSets = new ArrayList<>();
+            if (input.getTitle() != null) {
+                candidateSets.add(titleIndex.getOrDefault(normalize(input.getTitle()), Set.of()));
+            }
+            if (input.getMinSalary() != null || input.getMaxSalary() != null) {
+                candidateSets.add(range(salaryIndex, input.getMinSalary(), input.getMaxSalary()));
+            }
+            if (input.getMinAge() != null || input.getMaxAge() != null) {
+                candidateSets.add(range(ageIndex, input.getMinAge(), input.getMaxAge()));
+            }
+
+            final Collection<MockEmployee> candidates = candidateSets.stream()
+                    .min(Comparator.comparingInt(Collection::size))
+                    .<Collection<MockEmployee>>map(
+                            ids -> ids.stream().map(employeesById::get).toList())
+                    .orElse(mockEmployees);
+            return candidates.stream().filter(matches).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Highest salary straight from the salary index, without touching the employees themselves.
+     */
+    public Optional<Integer> findMaxSalary() {
+        lock.readLock().lock();
+        try {
+            return salaryIndex.isEmpty() ? Optional.empty() : Optional.of(salaryIndex.lastKey());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Walks the salary index from the top and stops after {@code k} employees. Employees sharing a salary are
+     * returned in insertion order.
+     */
+    public List<MockEmployee> findTopBySalary(int k) {
+        lock.readLock().lock();
+        try {
+            final List<MockEmployee> top = new ArrayList<>(Math.min(k, employeesById.size()));
+            for (Set<UUID> ids : salaryIndex.descendingMap().values()) {
+                for (UUID id : ids) {
+                    if (top.size() == k) {
+                        return top;
+                    }
+                    top.add(employeesById.get(id));
+                }
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Creates the employee unless a create with the same idempotency key was already applied, in which case the
+     * employee created then is returned again.
+     */
+    public MockEmployee create(@NonNull CreateMockEmployeeInput input, String idempotencyKey) {
         final var mockEmployee = MockEmployee.from(
+                shardRange.randomId(),
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        lock.writeLock().lock();
+        try {
+            if (idempotencyKey != null) {
+                final var created = createdByIdempotencyKey.putIfAbsent(idempotencyKey, mockEmployee);
+                if (created != null) {
+                    log.debug("Create with idempotency key {} already applied: {}", idempotencyKey, created);
+                    return created;
+                }
+            }
+            mockEmployees.add(mockEmployee);
+            index(mockEmployee);
+        } finally {
+            lock.writeLock().unlock();
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        lock.writeLock().lock();
+        try {
+            final var mockEmployee = mockEmployees.stream()
+                    .filter(employee -> Objects.nonNull(employee.getName())
+                            && employee.getName().equalsIgnoreCase(input.getName()))
+                    .findFirst();
+            if (mockEmployee.isPresent()) {
+                mockEmployees.remove(mockEmployee.get());
+                unindex(mockEmployee.get());
+                log.debug("Removed employee: {}", mockEmployee.get());
+                return true;
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
 
         return false;
     }
+
+    private void index(MockEmployee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        employeesById.put(employee.getId(), employee);
+        addTo(salaryIndex, employee.getSalary(), employee.getId());
+        addTo(ageIndex, employee.getAge(), employee.getId());
+        addTo(titleIndex, normalize(employee.getTitle()), employee.getId());
+    }
+
+    private void unindex(MockEmployee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        employeesById.remove(employee.getId());
+        removeFrom(salaryIndex, employee.getSalary(), employee.getId());
+        removeFrom(ageIndex, employee.getAge(), employee.getId());
+        removeFrom(titleIndex, normalize(employee.getTitle()), employee.getId());
+    }
+
+    private static <K> void addTo(Map<K, Set<UUID>> index, K key, UUID id) {
+        if (key != null) {
+            index.computeIfAbsent(key, ignored -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<UUID>> index, K key, UUID id) {
+        if (key != null) {
+            index.computeIfPresent(key, (ignored, ids) -> ids.remove(id) && ids.isEmpty() ? null : ids);
+        }
+    }
+
+    private static List<UUID> range(NavigableMap<Integer, Set<UUID>> index, Integer min, Integer max) {
+        final int from = min != null ? min : Integer.MIN_VALUE;
+        final int to = max != null ? max : Integer.MAX_VALUE;
+        if (from > to) {
+            return List.of();
+        }
+        final List<UUID> ids = new ArrayList<>();
+        index.subMap(from, true, to, true).values().forEach(ids::addAll);
+        return ids;
+    }
+
+    private static Predicate<MockEmployee> toPredicate(SearchMockEmployeeInput input) {
+        Predicate<MockEmployee> predicate = Objects::nonNull;
+        if (input.getNameContains() != null) {
+            final String fragment = normalize(input.getNameContains());
+            predicate = predicate.and(employee ->
+                    employee.getName() != null && normalize(employee.getName()).contains(fragment));
+        }
+        if (input.getTitle() != null) {
+            final String title = normalize(input.getTitle());
+            predicate = predicate.and(employee -> title.equals(normalize(employee.getTitle())));
+        }
+        if (input.getMinSalary() != null) {
+            predicate = predicate.and(
+                    employee -> employee.getSalary() != null && employee.getSalary() >= input.getMinSalary());
+        }
+        if (input.getMaxSalary() != null) {
+            predicate = predicate.and(
+                    employee -> employee.getSalary() != null && employee.getSalary() <= input.getMaxSalary());
+        }
+        if (input.getMinAge() != null) {
+            predicate = predicate.and(employee -> employee.getAge() != null && employee.getAge() >= input.getMinAge());
+        }
+        if (input.getMaxAge() != null) {
+            predicate = predicate.and(employee -> employee.getAge() != null && employee.getAge() <= input.getMaxAge());
+        }
+        return predicate;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
 }
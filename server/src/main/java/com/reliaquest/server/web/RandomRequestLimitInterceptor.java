@@ -12,28 +12,41 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimit;
+    private final Duration requestBackoffDuration;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final AtomicReference<RequestLimit> requestCount = new AtomicReference<>(RequestLimit.init());
+
+    public RandomRequestLimitInterceptor() {
+        this(
+                RandomGenerator.getDefault().nextInt(5, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)));
+    }
+
+    /**
+     * Deterministic variant, e.g. for load tests that need a reproducible rate limit.
+     */
+    public RandomRequestLimitInterceptor(int requestLimit, Duration requestBackoffDuration) {
+        this.requestLimit = requestLimit;
+        this.requestBackoffDuration = requestBackoffDuration;
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
+        if (requestCount.get().getCount() >= requestLimit) {
             if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
+                    .minus(requestBackoffDuration)
+                    .isBefore(requestCount.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
             if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+                    .minus(requestBackoffDuration)
+                    .isAfter(requestCount.get().getLastRequested())) {
+                requestCount.set(RequestLimit.init());
             }
         } else {
-            requestLimit.getAndUpdate(
+            requestCount.getAndUpdate(
                     currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
 
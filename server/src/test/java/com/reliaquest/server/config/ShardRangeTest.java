@@ -0,0 +1,60 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ShardRangeTest {
+
+    private static final long ID_SPACE = 1L << 32;
+
+    @Test
+    void testRanges_CoverTheIdSpaceWithoutGaps() {
+        for (int count : new int[] {1, 2, 3, 7}) {
+            assertEquals(0, new ShardRange(0, count).getLowest());
+            for (int index = 1; index < count; index++) {
+                assertEquals(new ShardRange(index - 1, count).getHighest(), new ShardRange(index, count).getLowest());
+            }
+            assertEquals(ID_SPACE, new ShardRange(count - 1, count).getHighest());
+        }
+    }
+
+    @Test
+    void testShardOf_MatchesTheRangeBounds() {
+        for (int count : new int[] {2, 3, 7}) {
+            for (int index = 0; index < count; index++) {
+                ShardRange range = new ShardRange(index, count);
+                assertEquals(index, ShardRange.shardOf(idWithHighBits(range.getLowest()), count));
+                assertEquals(index, ShardRange.shardOf(idWithHighBits(range.getHighest() - 1), count));
+            }
+        }
+        assertEquals(0, ShardRange.shardOf(idWithHighBits(ID_SPACE - 1), 1));
+    }
+
+    @Test
+    void testRandomId_IsOwnedByItsShardAndStaysVersion4() {
+        for (int count : new int[] {1, 2, 3, 7}) {
+            for (int index = 0; index < count; index++) {
+                ShardRange range = new ShardRange(index, count);
+                for (int i = 0; i < 200; i++) {
+                    UUID id = range.randomId();
+                    assertEquals(index, ShardRange.shardOf(id, count), () -> id + " outside " + range);
+                    assertEquals(4, id.version());
+                    assertEquals(2, id.variant());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidShards() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRange(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRange(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRange(2, 2));
+    }
+
+    private static UUID idWithHighBits(long high) {
+        return new UUID((high << 32) | 0x4000L, 0x8000000000000000L);
+    }
+}
@@ -0,0 +1,181 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SearchMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+// A fixed request limit well above what the tests send, instead of the random one of a few requests
+@WebMvcTest(
+        controllers = MockEmployeeController.class,
+        properties = {"mock.request-limit.max-requests=1000", "mock.request-limit.backoff=PT1S"})
+class MockEmployeeControllerTest {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MockEmployeeService mockEmployeeService;
+
+    @Test
+    void testGetEmployees_BindsEveryFilter() throws Exception {
+        MockEmployee ada = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Ada Lovelace")
+                .salary(120000)
+                .age(36)
+                .title("Engineer")
+                .build();
+        when(mockEmployeeService.search(any())).thenReturn(List.of(ada));
+
+        mockMvc.perform(get(EMPLOYEES)
+                        .param("nameContains", "ada")
+                        .param("minSalary", "100000")
+                        .param("maxSalary", "200000")
+                        .param("minAge", "30")
+                        .param("maxAge", "40")
+                        .param("title", "Engineer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ada Lovelace"));
+
+        ArgumentCaptor<SearchMockEmployeeInput> input = ArgumentCaptor.forClass(SearchMockEmployeeInput.class);
+        verify(mockEmployeeService).search(input.capture());
+        assertEquals("ada", input.getValue().getNameContains());
+        assertEquals(100000, input.getValue().getMinSalary());
+        assertEquals(200000, input.getValue().getMaxSalary());
+        assertEquals(30, input.getValue().getMinAge());
+        assertEquals(40, input.getValue().getMaxAge());
+        assertEquals("Engineer", input.getValue().getTitle());
+    }
+
+    @Test
+    void testGetEmployees_WithoutFiltersReturnsEveryone() throws Exception {
+        when(mockEmployeeService.getMockEmployees()).thenReturn(List.of());
+
+        mockMvc.perform(get(EMPLOYEES)).andExpect(status().isOk()).andExpect(jsonPath("$.data").isArray());
+
+        verify(mockEmployeeService, never()).search(any());
+    }
+
+    @Test
+    void testGetEmployees_OpenRangeIsAccepted() throws Exception {
+        when(mockEmployeeService.search(any())).thenReturn(List.of());
+
+        mockMvc.perform(get(EMPLOYEES).param("minAge", "40").param("maxAge", "40"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(EMPLOYEES).param("maxSalary", "50000")).andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetEmployees_InvertedRangesAreRejected() throws Exception {
+        mockMvc.perform(get(EMPLOYEES).param("minSalary", "200000").param("maxSalary", "100000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("minSalary must not be above maxSalary"));
+        mockMvc.perform(get(EMPLOYEES).param("minAge", "50").param("maxAge", "30"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("minAge must not be above maxAge"));
+
+        verify(mockEmployeeService, never()).search(any());
+    }
+
+    @Test
+    void testGetEmployees_BoundsThatAreNotNumbersAreRejected() throws Exception {
+        mockMvc.perform(get(EMPLOYEES).param("minSalary", "lots")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEES).param("maxAge", "4.5")).andExpect(status().isBadRequest());
+
+        verify(mockEmployeeService, never()).search(any());
+    }
+
+    @Test
+    void testGetMaxSalary() throws Exception {
+        when(mockEmployeeService.findMaxSalary()).thenReturn(Optional.of(150000));
+        mockMvc.perform(get(EMPLOYEES + "/stats/max-salary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(150000));
+
+        when(mockEmployeeService.findMaxSalary()).thenReturn(Optional.empty());
+        mockMvc.perform(get(EMPLOYEES + "/stats/max-salary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void testGetTopEmployees_BySalaryIgnoringCase() throws Exception {
+        when(mockEmployeeService.findTopBySalary(3)).thenReturn(List.of());
+
+        mockMvc.perform(get(EMPLOYEES + "/top").param("by", "Salary").param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isArray());
+
+        verify(mockEmployeeService).findTopBySalary(3);
+    }
+
+    @Test
+    void testGetTopEmployees_InvalidRankingIsRejected() throws Exception {
+        mockMvc.perform(get(EMPLOYEES + "/top").param("by", "age").param("k", "3"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported ranking attribute: age"));
+        mockMvc.perform(get(EMPLOYEES + "/top").param("by", "salary").param("k", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEES + "/top").param("by", "salary").param("k", "ten"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEES + "/top").param("k", "3")).andExpect(status().isBadRequest());
+
+        verify(mockEmployeeService, never()).findTopBySalary(anyInt());
+    }
+
+    @Test
+    void testGetEmployees_SmileIsNegotiatedByAccept() throws Exception {
+        MockEmployee ada = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Ada Lovelace")
+                .salary(120000)
+                .age(36)
+                .title("Engineer")
+                .build();
+        when(mockEmployeeService.getMockEmployees()).thenReturn(List.of(ada));
+
+        // As the API asks for it, with JSON as the fallback
+        byte[] smile = mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.ACCEPT, SMILE + ", application/json;q=0.9"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertEquals("Ada Lovelace", body.at("/data/0/employee_name").asText());
+        assertEquals(120000, body.at("/data/0/employee_salary").asInt());
+
+        mockMvc.perform(get(EMPLOYEES))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ada Lovelace"));
+    }
+}
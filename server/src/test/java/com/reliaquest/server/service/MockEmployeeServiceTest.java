@@ -0,0 +1,184 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.ShardRange;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SearchMockEmployeeInput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final MockEmployee ADA = employee("Ada Lovelace", 120000, 36, "Engineer");
+    private static final MockEmployee ALAN = employee("Alan Turing", 90000, 41, "Engineer");
+    private static final MockEmployee GRACE = employee("Grace Hopper", 150000, 60, "Admiral");
+    private static final MockEmployee LINUS = employee("Linus Torvalds", 90000, 28, "Maintainer");
+
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeService = service(List.of(ADA, ALAN, GRACE, LINUS));
+    }
+
+    @Test
+    void testSearch_ByNameFragmentIgnoringCase() {
+        assertFound(search(input -> input.setNameContains("aL")), ALAN, LINUS);
+    }
+
+    @Test
+    void testSearch_BySalaryRange() {
+        assertFound(search(input -> input.setMaxSalary(90000)), ALAN, LINUS);
+        assertFound(search(input -> input.setMinSalary(90001)), ADA, GRACE);
+        assertFound(
+                search(input -> {
+                    input.setMinSalary(90000);
+                    input.setMaxSalary(120000);
+                }),
+                ADA,
+                ALAN,
+                LINUS);
+    }
+
+    @Test
+    void testSearch_ByAgeRange() {
+        assertFound(search(input -> input.setMaxAge(36)), ADA, LINUS);
+        assertFound(search(input -> input.setMinAge(37)), ALAN, GRACE);
+    }
+
+    @Test
+    void testSearch_ByTitleIgnoringCase() {
+        assertFound(search(input -> input.setTitle("engineer")), ADA, ALAN);
+    }
+
+    @Test
+    void testSearch_CombinedFiltersMustAllMatch() {
+        assertFound(
+                search(input -> {
+                    input.setTitle("Engineer");
+                    input.setMaxSalary(100000);
+                    input.setMinAge(30);
+                }),
+                ALAN);
+        assertFound(
+                search(input -> {
+                    input.setNameContains("ada");
+                    input.setMinSalary(100000);
+                    input.setMaxAge(40);
+                }),
+                ADA);
+    }
+
+    @Test
+    void testSearch_NoMatches() {
+        assertFound(search(input -> input.setNameContains("nobody")));
+        assertFound(search(input -> input.setTitle("Astronaut")));
+        assertFound(search(input -> input.setMinSalary(1_000_000)));
+        assertFound(search(input -> {
+            input.setMinAge(50);
+            input.setMaxAge(30);
+        }));
+        assertFound(search(input -> {
+            input.setTitle("Admiral");
+            input.setMaxAge(59);
+        }));
+    }
+
+    @Test
+    void testFindMaxSalary() {
+        assertEquals(Optional.of(150000), mockEmployeeService.findMaxSalary());
+        assertEquals(Optional.empty(), service(List.of()).findMaxSalary());
+    }
+
+    @Test
+    void testFindTopBySalary_TiesInInsertionOrder() {
+        assertEquals(List.of(GRACE, ADA, ALAN, LINUS), mockEmployeeService.findTopBySalary(4));
+        assertEquals(List.of(GRACE, ADA, ALAN), mockEmployeeService.findTopBySalary(3));
+    }
+
+    @Test
+    void testFindTopBySalary_KLargerThanRoster() {
+        assertEquals(List.of(GRACE, ADA, ALAN, LINUS), mockEmployeeService.findTopBySalary(10));
+        assertEquals(List.of(), service(List.of()).findTopBySalary(3));
+    }
+
+    @Test
+    void testSalaryIndex_FollowsCreateAndDelete() {
+        CreateMockEmployeeInput create = new CreateMockEmployeeInput();
+        create.setName("Katherine Johnson");
+        create.setSalary(200000);
+        create.setAge(50);
+        create.setTitle("Mathematician");
+        MockEmployee katherine = mockEmployeeService.create(create, null);
+
+        assertEquals(Optional.of(200000), mockEmployeeService.findMaxSalary());
+        assertEquals(List.of(katherine, GRACE), mockEmployeeService.findTopBySalary(2));
+
+        DeleteMockEmployeeInput deleteKatherine = new DeleteMockEmployeeInput();
+        deleteKatherine.setName("katherine johnson");
+        assertTrue(mockEmployeeService.delete(deleteKatherine));
+        DeleteMockEmployeeInput deleteGrace = new DeleteMockEmployeeInput();
+        deleteGrace.setName("Grace Hopper");
+        assertTrue(mockEmployeeService.delete(deleteGrace));
+
+        assertEquals(Optional.of(120000), mockEmployeeService.findMaxSalary());
+        assertEquals(List.of(ADA, ALAN, LINUS), mockEmployeeService.findTopBySalary(5));
+    }
+
+    @Test
+    void testCreate_AllocatesIdsOfItsShard() {
+        ShardRange shardRange = new ShardRange(1, 3);
+        MockEmployeeService shard = new MockEmployeeService(new Faker(), shardRange, new ArrayList<>());
+        shard.buildIndexes();
+
+        for (int i = 0; i < 50; i++) {
+            CreateMockEmployeeInput create = new CreateMockEmployeeInput();
+            create.setName("Employee " + i);
+            create.setSalary(50000);
+            create.setAge(30);
+            create.setTitle("Engineer");
+            UUID id = shard.create(create, "key-" + i).getId();
+            assertEquals(1, ShardRange.shardOf(id, 3), id::toString);
+        }
+    }
+
+    // The order of the matches is not specified, only that each is found once
+    private static void assertFound(List<MockEmployee> found, MockEmployee... expected) {
+        assertEquals(expected.length, found.size(), found::toString);
+        assertEquals(Set.of(expected), Set.copyOf(found));
+    }
+
+    private List<MockEmployee> search(Consumer<SearchMockEmployeeInput> criteria) {
+        SearchMockEmployeeInput input = new SearchMockEmployeeInput();
+        criteria.accept(input);
+        return mockEmployeeService.search(input);
+    }
+
+    private static MockEmployeeService service(List<MockEmployee> employees) {
+        MockEmployeeService service =
+                new MockEmployeeService(new Faker(), new ShardRange(0, 1), new ArrayList<>(employees));
+        service.buildIndexes();
+        return service;
+    }
+
+    private static MockEmployee employee(String name, int salary, int age, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}